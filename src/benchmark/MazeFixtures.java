@@ -0,0 +1,105 @@
+package benchmark;
+
+import generator.generatorImpl.RecursiveBacktrackerGenerator;
+import java.util.Random;
+import models.PackedMaze;
+
+/**
+ * Laberintos de prueba reproducibles para los benchmarks.
+ * Todos se construyen directamente en la representación compacta, con inicio en la esquina
+ * superior izquierda y destino según la topología.
+ */
+public final class MazeFixtures {
+
+    /**
+     * Topologías disponibles.
+     */
+    public enum Topology {
+        /** Cuadrícula abierta con muros aleatorios según la densidad. */
+        OPEN,
+        /** Laberinto perfecto (un único camino entre dos celdas), generado con backtracking aleatorio. */
+        PERFECT,
+        /** Anillos concéntricos con aberturas alternadas: el camino da vueltas hasta el centro. */
+        SPIRAL,
+        /** Como OPEN, pero con una pared completa que deja el destino inalcanzable. */
+        NO_SOLUTION
+    }
+
+    private MazeFixtures() {
+    }
+
+    /**
+     * Construye un laberinto cuadrado.
+     * @param topology La forma del laberinto.
+     * @param size Número de filas y de columnas.
+     * @param wallDensity Probabilidad de muro por celda (solo OPEN y NO_SOLUTION).
+     * @param seed Semilla para que el laberinto sea siempre el mismo.
+     * @return El laberinto con inicio y destino definidos.
+     */
+    public static PackedMaze create(Topology topology, int size, double wallDensity, long seed) {
+        switch (topology) {
+            case OPEN: return open(size, wallDensity, seed);
+            case PERFECT: return perfect(size, seed);
+            case SPIRAL: return spiral(size);
+            case NO_SOLUTION: return noSolution(size, wallDensity, seed);
+            default: throw new IllegalArgumentException("Topología desconocida: " + topology);
+        }
+    }
+
+    private static PackedMaze open(int size, double wallDensity, long seed) {
+        PackedMaze maze = new PackedMaze(size, size);
+        Random random = new Random(seed);
+        for (int i = 0; i < maze.size(); i++) {
+            if (random.nextDouble() < wallDensity) {
+                maze.setWall(i, true);
+            }
+        }
+        return withEndpoints(maze, 0, maze.size() - 1);
+    }
+
+    private static PackedMaze noSolution(int size, double wallDensity, long seed) {
+        PackedMaze maze = open(size, wallDensity, seed);
+        // Una fila completa de muros separa el inicio (arriba) del destino (abajo).
+        int barrier = size / 2;
+        for (int c = 0; c < size; c++) {
+            maze.setWall(barrier, c, true);
+        }
+        return maze;
+    }
+
+    private static PackedMaze perfect(int size, long seed) {
+        return new RecursiveBacktrackerGenerator().generate(size, size, seed);
+    }
+
+    private static PackedMaze spiral(int size) {
+        PackedMaze maze = new PackedMaze(size, size);
+        int ring = 0;
+        for (int d = 1; d < size - 1 - d; d += 2, ring++) {
+            int low = d;
+            int high = size - 1 - d;
+            for (int i = low; i <= high; i++) {
+                maze.setWall(low, i, true);
+                maze.setWall(high, i, true);
+                maze.setWall(i, low, true);
+                maze.setWall(i, high, true);
+            }
+            // Las aberturas se alternan entre esquinas opuestas para obligar a rodear cada anillo.
+            if (ring % 2 == 0) {
+                maze.setWall(low, low + 1, false);
+            } else {
+                maze.setWall(high, high - 1, false);
+            }
+        }
+        int center = size / 2;
+        maze.setWall(center, center, false);
+        return withEndpoints(maze, 0, maze.index(center, center));
+    }
+
+    private static PackedMaze withEndpoints(PackedMaze maze, int start, int end) {
+        maze.setWall(start, false);
+        maze.setWall(end, false);
+        maze.setStart(start);
+        maze.setEnd(end);
+        return maze;
+    }
+}
@@ -0,0 +1,139 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import models.PackedMaze;
+import models.SearchStats;
+import solver.MazeSolver;
+import solver.SolverRegistry;
+
+/**
+ * Benchmark de todos los MazeSolver, parametrizado por algoritmo, tamaño de la cuadrícula,
+ * densidad de muros y topología.
+ * A diferencia de la medición única de MazeController (un solo System.nanoTime() sin
+ * calentamiento), cada combinación se calienta primero para que el JIT compile el código
+ * y luego se mide durante un tiempo fijo. Se reporta:
+ * <ul>
+ *   <li>throughput (resoluciones por segundo),</li>
+ *   <li>percentiles de latencia (p50, p90, p99 y máximo),</li>
+ *   <li>bytes asignados por resolución (ThreadMXBean), equivalente al perfil "gc" de JMH.</li>
+ * </ul>
+ * La salida es CSV para poder compararla o graficarla.
+ *
+ * Uso: java benchmark.SolverBenchmark [--solvers=BFS,A*] [--sizes=10,100,1000,4000]
+ *      [--densities=0,0.2] [--topologies=OPEN,PERFECT,SPIRAL,NO_SOLUTION]
+ *      [--warmupMs=500] [--measureMs=1000] [--seed=42]
+ */
+public class SolverBenchmark {
+
+    public static void main(String[] args) {
+        List<String> solvers = SolverRegistry.getAlgorithmNames();
+        int[] sizes = {10, 100, 1000};
+        double[] densities = {0.0, 0.2};
+        MazeFixtures.Topology[] topologies = MazeFixtures.Topology.values();
+        long warmupMs = 500;
+        long measureMs = 1000;
+        long seed = 42;
+
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            String value = pair.length > 1 ? pair[1] : "";
+            switch (pair[0]) {
+                case "--solvers": solvers = Arrays.asList(value.split(",")); break;
+                case "--sizes": sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                case "--densities": densities = Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray(); break;
+                case "--topologies":
+                    topologies = Arrays.stream(value.split(",")).map(MazeFixtures.Topology::valueOf).toArray(MazeFixtures.Topology[]::new);
+                    break;
+                case "--warmupMs": warmupMs = Long.parseLong(value); break;
+                case "--measureMs": measureMs = Long.parseLong(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                default: throw new IllegalArgumentException("Argumento desconocido: " + arg);
+            }
+        }
+
+        System.out.println("algorithm,topology,size,density,pathLength,ops/s,p50(ns),p90(ns),p99(ns),max(ns),bytes/op");
+        for (MazeFixtures.Topology topology : topologies) {
+            // La densidad solo cambia las topologías con muros aleatorios.
+            boolean usesDensity = topology == MazeFixtures.Topology.OPEN || topology == MazeFixtures.Topology.NO_SOLUTION;
+            double[] topologyDensities = usesDensity ? densities : new double[]{0.0};
+            for (int size : sizes) {
+                for (double density : topologyDensities) {
+                    PackedMaze maze = MazeFixtures.create(topology, size, density, seed);
+                    for (String name : solvers) {
+                        MazeSolver solver = SolverRegistry.create(name);
+                        if (solver == null) {
+                            throw new IllegalArgumentException("Algoritmo desconocido: " + name);
+                        }
+                        Measurement m = measure(solver, maze, warmupMs, measureMs);
+                        System.out.printf(Locale.ROOT, "%s,%s,%d,%.2f,%d,%.1f,%d,%d,%d,%d,%d%n",
+                                name, topology, size, density, m.pathLength, m.opsPerSecond,
+                                m.percentile(0.50), m.percentile(0.90), m.percentile(0.99), m.percentile(1.0),
+                                m.bytesPerOp);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calienta y mide un solucionador sobre un laberinto.
+     */
+    private static Measurement measure(MazeSolver solver, PackedMaze maze, long warmupMs, long measureMs) {
+        int start = maze.getStart();
+        int end = maze.getEnd();
+
+        long warmupEnd = System.nanoTime() + warmupMs * 1_000_000L;
+        int pathLength = 0;
+        do {
+            pathLength = solver.solve(maze, start, end).length;
+        } while (System.nanoTime() < warmupEnd);
+
+        long bytesBefore = SearchStats.currentThreadAllocatedBytes();
+
+        long[] samples = new long[1024];
+        int count = 0;
+        long measureStart = System.nanoTime();
+        long measureEnd = measureStart + measureMs * 1_000_000L;
+        long now;
+        do {
+            long t0 = System.nanoTime();
+            solver.solve(maze, start, end);
+            now = System.nanoTime();
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = now - t0;
+        } while (now < measureEnd);
+
+        long bytesAfter = SearchStats.currentThreadAllocatedBytes();
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        double opsPerSecond = count * 1e9 / (now - measureStart);
+        long bytesPerOp = bytesBefore >= 0 ? (bytesAfter - bytesBefore) / count : -1;
+        return new Measurement(pathLength, opsPerSecond, sorted, bytesPerOp);
+    }
+
+    /**
+     * Resultado de medir una combinación.
+     */
+    private static class Measurement {
+        final int pathLength;
+        final double opsPerSecond;
+        final long[] sortedNanos;
+        final long bytesPerOp;
+
+        Measurement(int pathLength, double opsPerSecond, long[] sortedNanos, long bytesPerOp) {
+            this.pathLength = pathLength;
+            this.opsPerSecond = opsPerSecond;
+            this.sortedNanos = sortedNanos;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        long percentile(double p) {
+            int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, Math.min(sortedNanos.length - 1, index))];
+        }
+    }
+}
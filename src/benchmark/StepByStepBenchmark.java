@@ -0,0 +1,112 @@
+package benchmark;
+
+import models.Cell;
+import models.CellState;
+import solver.MazeSolver;
+import solver.solverImpl.MazeSolverRecursivoCompletoBT;
+
+/**
+ * Mide el costo de cada doStep() del modo paso a paso de MazeSolverRecursivoCompletoBT
+ * a medida que el camino se hace más profundo.
+ * Usa un corredor en serpentina (de unas 1000 celdas por defecto) donde cada paso alarga
+ * el camino en una celda, y agrupa los tiempos por tramos de profundidad: si el costo por
+ * paso es constante, todos los tramos deben dar aproximadamente el mismo valor.
+ *
+ * Uso: java benchmark.StepByStepBenchmark [celdasDelCorredor] [repeticiones]
+ */
+public class StepByStepBenchmark {
+
+    private static final int WIDTH = 50;
+    private static final int BUCKETS = 10;
+
+    public static void main(String[] args) {
+        int corridorCells = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        Cell[][] maze = createSerpentine(corridorCells);
+        Cell start = maze[0][0];
+        Cell end = findEnd(maze);
+
+        // Calentamiento para que el JIT compile doStep antes de medir.
+        int steps = 0;
+        for (int i = 0; i < repetitions; i++) {
+            steps = runSteps(maze, start, end, null, 1);
+        }
+
+        int stepsPerBucket = (steps + BUCKETS - 1) / BUCKETS;
+        long[] bucketNanos = new long[BUCKETS];
+        for (int i = 0; i < repetitions; i++) {
+            runSteps(maze, start, end, bucketNanos, stepsPerBucket);
+        }
+
+        System.out.println("Corredor de " + steps + " pasos, " + repetitions + " repeticiones");
+        System.out.println("Tramo de profundidad,ns por paso");
+        for (int b = 0; b < BUCKETS; b++) {
+            int from = b * stepsPerBucket;
+            int to = Math.min(steps, from + stepsPerBucket);
+            if (from >= to) {
+                break;
+            }
+            double nsPerStep = (double) bucketNanos[b] / ((long) (to - from) * repetitions);
+            System.out.printf("%d-%d,%.1f%n", from, to - 1, nsPerStep);
+        }
+    }
+
+    /**
+     * Ejecuta una búsqueda paso a paso completa.
+     * @param bucketNanos Si no es null, acumula el tiempo de cada tramo de pasos.
+     * @param stepsPerBucket Cantidad de pasos de cada tramo.
+     * @return El número de pasos ejecutados.
+     */
+    private static int runSteps(Cell[][] maze, Cell start, Cell end, long[] bucketNanos, int stepsPerBucket) {
+        MazeSolver solver = new MazeSolverRecursivoCompletoBT();
+        solver.initializeStepByStep(maze, start, end);
+        int step = 0;
+        long bucketStart = System.nanoTime();
+        while (!solver.isStepByStepFinished()) {
+            solver.doStep();
+            step++;
+            if (bucketNanos != null && step % stepsPerBucket == 0) {
+                long now = System.nanoTime();
+                int bucket = Math.min(BUCKETS - 1, step / stepsPerBucket - 1);
+                bucketNanos[bucket] += now - bucketStart;
+                bucketStart = now;
+            }
+        }
+        if (bucketNanos != null && step % stepsPerBucket != 0) {
+            bucketNanos[Math.min(BUCKETS - 1, step / stepsPerBucket)] += System.nanoTime() - bucketStart;
+        }
+        return step;
+    }
+
+    /**
+     * Crea un corredor en serpentina de ancho 1: filas pares abiertas unidas alternadamente
+     * por su extremo derecho o izquierdo, con filas de muro entre ellas.
+     */
+    private static Cell[][] createSerpentine(int corridorCells) {
+        int corridorRows = Math.max(1, (corridorCells + WIDTH - 1) / WIDTH);
+        int rows = corridorRows * 2 - 1;
+        Cell[][] maze = new Cell[rows][WIDTH];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < WIDTH; c++) {
+                boolean open = r % 2 == 0 || c == ((r / 2) % 2 == 0 ? WIDTH - 1 : 0);
+                maze[r][c] = new Cell(r, c, open ? CellState.PATH : CellState.WALL);
+            }
+        }
+        maze[0][0].setState(CellState.START);
+        int lastRow = rows - 1;
+        maze[lastRow][(lastRow / 2) % 2 == 0 ? WIDTH - 1 : 0].setState(CellState.END);
+        return maze;
+    }
+
+    private static Cell findEnd(Cell[][] maze) {
+        for (Cell[] row : maze) {
+            for (Cell cell : row) {
+                if (cell.getState() == CellState.END) {
+                    return cell;
+                }
+            }
+        }
+        throw new IllegalStateException("El corredor no tiene destino");
+    }
+}
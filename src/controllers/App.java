@@ -13,9 +13,14 @@ public class App {
 
     /**
      * El punto de entrada de la aplicación.
-     * @param args Argumentos de la línea de comandos (no se utilizan).
+     * @param args Argumentos de la línea de comandos. Si se pasan archivos o directorios,
+     *             se resuelven sin interfaz gráfica (ver {@link BatchApp}).
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            BatchApp.main(args);
+            return;
+        }
         // SwingUtilities.invokeLater asegura que todo el código de la GUI se ejecute
         // en el hilo de despacho de eventos (EDT), lo cual es una práctica segura en Swing.
         SwingUtilities.invokeLater(() -> {
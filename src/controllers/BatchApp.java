@@ -0,0 +1,278 @@
+package controllers;
+
+import dao.AlgorithmResultDAO;
+import dao.MazeDAO;
+import dao.daoImpl.AlgorithmResultDAOFile;
+import dao.daoImpl.AlgorithmResultDAOLog;
+import dao.daoImpl.AsyncAlgorithmResultDAO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import models.AlgorithmResult;
+import models.AlgorithmSummary;
+import models.PackedMaze;
+import models.SearchStats;
+import solver.ComponentIndex;
+import solver.MazeSolver;
+import solver.SearchContext;
+import solver.SolveOptions;
+import solver.SolveResult;
+import solver.SolverRegistry;
+
+/**
+ * Punto de entrada sin interfaz gráfica: resuelve laberintos guardados en archivos.
+ * No usa ninguna clase de Swing/AWT, así que arranca rápido y funciona en servidores.
+ * Cada archivo se carga y se resuelve con todos los algoritmos elegidos en un grupo de
+ * hilos, y los resultados se van escribiendo en CSV a medida que terminan.
+ * Los archivos {@code .maze} se leen en formato binario y el resto como texto (ver {@link MazeDAO#forPath}).
+ *
+ * Con --results los resultados también se añaden al historial (el mismo CSV que usa la
+ * interfaz, o un registro binario si la ruta termina en .log) a través de un escritor en
+ * segundo plano, sin frenar a los hilos que resuelven. Con --summary se imprime al final el
+ * resumen del historial por algoritmo y tamaño (mínimo, mediana y p99).
+ *
+ * Con --timeout (milisegundos) y --max-nodes cada búsqueda tiene un presupuesto; si se agota,
+ * la fila se escribe igual con Found=false y el motivo en la columna Status.
+ *
+ * Uso: java controllers.BatchApp [--algorithms=BFS,A*] [--threads=N] [--output=resultados.csv]
+ *      [--results=results.csv|runs.log] [--summary] [--timeout=MS] [--max-nodes=N] [archivo-o-directorio...]
+ *
+ * Columnas: File,Algorithm,Rows,Cols,ExecutionTime(ns),PathLength,Found, las estadísticas
+ * de la búsqueda (NodesExpanded,NodesEnqueued,PeakFrontier,MaxDepth,BytesAllocated) y Status
+ * (FOUND, NO_PATH, DEADLINE_EXCEEDED o NODE_BUDGET_EXCEEDED).
+ */
+public class BatchApp {
+
+    private static final String HEADER = "File,Algorithm,Rows,Cols,ExecutionTime(ns),PathLength,Found,"
+            + "NodesExpanded,NodesEnqueued,PeakFrontier,MaxDepth,BytesAllocated,Status";
+    private static final String SUMMARY_HEADER = "Algorithm,Rows,Cols,Count,Min(ns),Median(ns),P99(ns)";
+    private static final String USAGE = "Uso: java controllers.BatchApp [--algorithms=BFS,A*] [--threads=N] [--output=archivo.csv]"
+            + " [--results=results.csv|runs.log] [--summary] [--timeout=MS] [--max-nodes=N] [archivo-o-directorio...]";
+
+    public static void main(String[] args) {
+        List<String> algorithms = SolverRegistry.getAlgorithmNames();
+        int threads = Runtime.getRuntime().availableProcessors();
+        String output = null;
+        String resultsFile = null;
+        boolean summary = false;
+        SolveOptions options = SolveOptions.unlimited();
+        List<Path> inputs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                String[] pair = arg.split("=", 2);
+                String value = pair.length > 1 ? pair[1] : "";
+                switch (pair[0]) {
+                    case "--algorithms": algorithms = Arrays.asList(value.split(",")); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    case "--output": output = value; break;
+                    case "--results": resultsFile = value; break;
+                    case "--summary": summary = true; break;
+                    case "--timeout": options = options.timeoutMillis(Long.parseLong(value)); break;
+                    case "--max-nodes": options = options.maxExpanded(Long.parseLong(value)); break;
+                    default:
+                        System.err.println("Argumento desconocido: " + arg);
+                        System.exit(2);
+                }
+            } else {
+                inputs.add(Paths.get(arg));
+            }
+        }
+        for (String name : algorithms) {
+            if (SolverRegistry.create(name) == null) {
+                System.err.println("Algoritmo desconocido: " + name + ". Disponibles: " + SolverRegistry.getNames());
+                System.exit(2);
+            }
+        }
+
+        List<Path> files;
+        try {
+            files = expand(inputs);
+        } catch (IOException e) {
+            System.err.println("ERROR: No se pudieron listar los archivos: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (summary && resultsFile == null) {
+            System.err.println(USAGE);
+            System.err.println("--summary necesita --results.");
+            System.exit(2);
+        }
+        if (files.isEmpty() && !summary) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        AsyncAlgorithmResultDAO resultDAO = resultsFile == null
+                ? null : new AsyncAlgorithmResultDAO(createResultDAO(resultsFile));
+        try (Writer writer = output == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            int failures = files.isEmpty() ? 0 : run(files, algorithms, options, Math.max(1, threads), writer, resultDAO);
+            if (resultDAO != null) {
+                resultDAO.close(); // Espera a que el historial quede escrito
+            }
+            if (summary) {
+                writeSummary(resultDAO.summarizeByAlgorithmAndSize(), writer);
+            }
+            writer.flush();
+            if (failures > 0) {
+                System.err.println(failures + " archivo(s) no se pudieron procesar.");
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Fallo al escribir los resultados: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Elige dónde guardar el historial según la extensión: registro binario para .log y CSV para el resto.
+     */
+    private static AlgorithmResultDAO createResultDAO(String resultsFile) {
+        if (resultsFile.toLowerCase().endsWith(AlgorithmResultDAOLog.EXTENSION)) {
+            return new AlgorithmResultDAOLog(resultsFile);
+        }
+        return new AlgorithmResultDAOFile(resultsFile);
+    }
+
+    private static void writeSummary(List<AlgorithmSummary> summaries, Writer writer) throws IOException {
+        StringBuilder lines = new StringBuilder(SUMMARY_HEADER).append('\n');
+        for (AlgorithmSummary summary : summaries) {
+            lines.append(summary.getAlgorithmName()).append(',')
+                    .append(summary.getMazeRows()).append(',')
+                    .append(summary.getMazeCols()).append(',')
+                    .append(summary.getCount()).append(',')
+                    .append(summary.getMinTime()).append(',')
+                    .append(summary.getMedianTime()).append(',')
+                    .append(summary.getP99Time()).append('\n');
+        }
+        writer.write(lines.toString());
+    }
+
+    /**
+     * Resuelve todos los archivos y escribe una línea CSV por archivo y algoritmo.
+     * Solo se mantienen en vuelo unas pocas tareas por hilo, para que la memoria no crezca
+     * con el número de archivos.
+     * @param options Límites de cada búsqueda (tiempo y celdas expandidas).
+     * @param resultDAO Dónde guardar también cada resultado, o null para no guardarlos.
+     * @return El número de archivos que no se pudieron cargar.
+     */
+    static int run(List<Path> files, List<String> algorithms, SolveOptions options, int threads, Writer writer,
+                   AlgorithmResultDAO resultDAO) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CompletionService<String> completion = new ExecutorCompletionService<>(pool);
+        int maxInFlight = threads * 4;
+        int submitted = 0;
+        int completed = 0;
+        int failures = 0;
+        try {
+            while (completed < files.size()) {
+                while (submitted < files.size() && submitted - completed < maxInFlight) {
+                    Path file = files.get(submitted++);
+                    completion.submit(() -> solveFile(file, algorithms, options, resultDAO));
+                }
+                try {
+                    writer.write(completion.take().get());
+                } catch (ExecutionException e) {
+                    failures++;
+                    System.err.println("ERROR: " + e.getCause().getMessage());
+                }
+                completed++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+        return failures;
+    }
+
+    /**
+     * Carga un archivo y lo resuelve con cada algoritmo.
+     * @return Las líneas CSV de este archivo.
+     */
+    private static String solveFile(Path file, List<String> algorithms, SolveOptions options,
+                                    AlgorithmResultDAO resultDAO) throws IOException {
+        PackedMaze maze = MazeDAO.forPath(file).load(file);
+        if (maze.getStart() < 0 || maze.getEnd() < 0) {
+            throw new IOException("El laberinto no tiene inicio o destino: " + file);
+        }
+        StringBuilder lines = new StringBuilder(64 * algorithms.size());
+        // Con varios algoritmos, etiquetar las componentes una vez evita que cada uno recorra
+        // toda la región alcanzable cuando el destino está desconectado.
+        ComponentIndex components = algorithms.size() > 1 ? ComponentIndex.build(maze) : null;
+        for (String name : algorithms) {
+            MazeSolver solver = SolverRegistry.create(name);
+            SearchContext context = new SearchContext(maze, maze.getStart(), maze.getEnd());
+            context.setComponentIndex(components);
+            long startTime = System.nanoTime();
+            SolveResult solved = solver.solve(context, options);
+            long duration = System.nanoTime() - startTime;
+            // Un camino parcial (presupuesto agotado) no es una solución.
+            int pathLength = solved.isFound() ? solved.getPath().length : 0;
+            SearchStats stats = context.getStats();
+            if (resultDAO != null) {
+                AlgorithmResult result = new AlgorithmResult(name, duration, pathLength);
+                result.setMaze(maze);
+                result.setStats(stats);
+                resultDAO.saveResult(result);
+            }
+            lines.append(file).append(',')
+                    .append(name).append(',')
+                    .append(maze.getRows()).append(',')
+                    .append(maze.getCols()).append(',')
+                    .append(duration).append(',')
+                    .append(pathLength).append(',')
+                    .append(solved.isFound()).append(',')
+                    .append(stats.getNodesExpanded()).append(',')
+                    .append(stats.getNodesEnqueued()).append(',')
+                    .append(stats.getPeakFrontier()).append(',')
+                    .append(stats.getMaxDepth()).append(',')
+                    .append(stats.getBytesAllocated()).append(',')
+                    .append(solved.getStatus()).append('\n');
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Sustituye cada directorio por los archivos que contiene (sin recorrer subdirectorios), en orden alfabético.
+     */
+    private static List<Path> expand(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                List<Path> children = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(input)) {
+                    for (Path child : stream) {
+                        if (Files.isRegularFile(child)) {
+                            children.add(child);
+                        }
+                    }
+                }
+                Collections.sort(children);
+                files.addAll(children);
+            } else {
+                files.add(input);
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,105 @@
+package controllers;
+
+import dao.MazeDAO;
+import dao.daoImpl.MazeDAOBinary;
+import generator.GeneratorRegistry;
+import generator.MazeGenerator;
+import generator.generatorImpl.EllerGenerator;
+import generator.generatorImpl.RecursiveBacktrackerGenerator;
+import generator.generatorImpl.TiledGenerator;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Punto de entrada sin interfaz gráfica para generar laberintos y guardarlos en un archivo,
+ * por ejemplo para preparar cargas de trabajo grandes para {@link BatchApp}.
+ * Con el algoritmo de Eller y un archivo {@code .maze}, el laberinto se escribe fila por
+ * fila sin construirlo en memoria, así que el tamaño solo lo limita el formato.
+ * El algoritmo "Paralelo" genera por bloques en varios hilos ({@code --threads}, por
+ * defecto todos los núcleos).
+ *
+ * Uso: java controllers.GeneratorApp [--algorithm=Eller] --rows=N --cols=N [--seed=N] [--threads=N] archivo.maze|archivo.txt
+ */
+public class GeneratorApp {
+
+    private static final String USAGE = "Uso: java controllers.GeneratorApp [--algorithm=Eller] --rows=N --cols=N"
+            + " [--seed=N] [--threads=N] archivo.maze|archivo.txt";
+
+    public static void main(String[] args) {
+        String algorithm = "Eller";
+        int rows = 0;
+        int cols = 0;
+        long seed = 0;
+        int threads = 0; // 0 = todos los núcleos
+        Path output = null;
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                String[] pair = arg.split("=", 2);
+                String value = pair.length > 1 ? pair[1] : "";
+                try {
+                    switch (pair[0]) {
+                        case "--algorithm": algorithm = value; break;
+                        case "--rows": rows = Integer.parseInt(value); break;
+                        case "--cols": cols = Integer.parseInt(value); break;
+                        case "--seed": seed = Long.parseLong(value); break;
+                        case "--threads": threads = Integer.parseInt(value); break;
+                        default:
+                            System.err.println("Argumento desconocido: " + arg);
+                            System.exit(2);
+                    }
+                } catch (NumberFormatException e) {
+                    System.err.println(USAGE);
+                    System.err.println("Valor no válido: " + arg);
+                    System.exit(2);
+                }
+            } else {
+                output = Paths.get(arg);
+            }
+        }
+        MazeGenerator generator = GeneratorRegistry.create(algorithm);
+        if (generator == null) {
+            System.err.println("Generador desconocido: " + algorithm + ". Disponibles: " + GeneratorRegistry.getNames());
+            System.exit(2);
+        }
+        if (threads != 0 && !(generator instanceof TiledGenerator)) {
+            System.err.println("--threads solo se aplica al generador Paralelo; " + algorithm + " usa un solo hilo.");
+            System.exit(2);
+        }
+        if (generator instanceof TiledGenerator && threads > 0) {
+            generator = new TiledGenerator(new RecursiveBacktrackerGenerator(), TiledGenerator.DEFAULT_TILE_ROOMS,
+                    new ForkJoinPool(threads));
+        }
+        if (rows <= 0 || cols <= 0 || threads < 0 || output == null || (long) rows * cols > Integer.MAX_VALUE) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        try {
+            long startTime = System.nanoTime();
+            if (generator instanceof EllerGenerator && output.toString().toLowerCase().endsWith(MazeDAOBinary.EXTENSION)) {
+                stream((EllerGenerator) generator, rows, cols, seed, output);
+            } else {
+                MazeDAO.forPath(output).save(generator.generate(rows, cols, seed), output);
+            }
+            System.err.printf("Laberinto %dx%d generado en %d ms: %s%n",
+                    rows, cols, (System.nanoTime() - startTime) / 1_000_000, output);
+        } catch (IOException e) {
+            System.err.println("ERROR: No se pudo escribir el laberinto: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Genera con Eller directamente al archivo binario, una fila cada vez.
+     */
+    private static void stream(EllerGenerator generator, int rows, int cols, long seed, Path output) throws IOException {
+        int lastRoomRow = (rows - 1) / 2 * 2;
+        int lastRoomCol = (cols - 1) / 2 * 2;
+        int end = lastRoomRow * cols + lastRoomCol;
+        try (MazeDAOBinary.RowWriter writer = new MazeDAOBinary().openRowWriter(output, rows, cols, 0, end)) {
+            generator.generateRows(rows, cols, seed, writer);
+        }
+    }
+}
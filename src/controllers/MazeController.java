@@ -1,19 +1,42 @@
 package controllers;
 
 import models.*;
+import solver.CancellationToken;
+import solver.ComponentIndex;
+import solver.IncrementalMazeSolver;
 import solver.MazeSolver;
-import solver.solverImpl.*;
+import solver.SearchCancelledException;
+import solver.SearchContext;
+import solver.SolverRegistry;
 import views.MazeFrame;
 import views.MazePanel;
 import views.ResultadosDialog;
 import dao.AlgorithmResultDAO; // Importar la interfaz DAO
+import dao.ResultQuery;
 import dao.daoImpl.AlgorithmResultDAOFile; // Importar la implementación DAO
+import dao.MazeDAO;
+import dao.daoImpl.MazeDAOBinary;
+import generator.GeneratorRegistry;
+import generator.MazeGenerator;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
@@ -24,7 +47,7 @@ import java.awt.event.MouseEvent;
  */
 public class MazeController {
     // Clase interna para pasar el resultado del hilo de fondo al hilo principal de forma segura.
-    private record SolveResultPayload(List<Cell> path, long duration) {}
+    private record SolveResultPayload(List<Cell> path, long duration, SearchStats stats) {}
 
     private Cell[][] mazeGrid;
     private final SolveResults solveResults; // Este es tu contenedor in-memory de resultados
@@ -40,8 +63,28 @@ public class MazeController {
     private Cell stepByStepEnd;
     private String currentStepAlgorithmName;
 
+    // --- ANIMACIÓN AUTOMÁTICA DEL PASO A PASO ---
+    private static final int PLAYBACK_FRAME_MS = 16;               // ~60 cuadros por segundo
+    private static final long FRAME_BUDGET_NANOS = 8_000_000L;     // Tiempo de pasos por cuadro; el resto queda para pintar
+    private final Timer playbackTimer = new Timer(PLAYBACK_FRAME_MS, e -> playbackTick());
+    private int stepsPerFrame = 1;  // Pasos por cuadro, ajustado según lo que tarda cada paso
+    private long nanosPerStep;      // Costo medio de un paso (0 = aún no medido)
+    private double stepCredit;      // Pasos pendientes (fraccionarios) según la velocidad elegida
+
+    // Token de la búsqueda automática en curso (null si no hay ninguna); lo usa el botón "Cancelar".
+    private CancellationToken currentCancellation;
+    // Componentes conexas del laberinto actual; null mientras no se hayan calculado.
+    // Se construye en la primera resolución y se actualiza con cada clic en un muro.
+    private ComponentIndex componentIndex;
+    // Sesión del último solucionador incremental (LPA*): tras resolver con él, cada muro que
+    // se pone o se quita repara el camino en lugar de resolver de nuevo. null si no hay sesión.
+    private IncrementalMazeSolver liveSolver;
+    private PackedMaze liveMaze;   // Copia del laberinto que usa la sesión, editada a la par que la cuadrícula
+    private List<Cell> livePath;   // Camino pintado por la sesión
+
     // --- AÑADIR LA INSTANCIA DEL DAO ---
     private final AlgorithmResultDAO resultDAO;
+    private long resultsPageOffset; // Primera fila de la página visible en el diálogo de resultados
 
     public MazeController(MazeFrame mazeFrame, int rows, int cols) {
         this.mazeFrame = mazeFrame;
@@ -50,8 +93,7 @@ public class MazeController {
         this.solveResults = new SolveResults(); 
         // INSTANCIAR EL DAO AQUÍ
         this.resultDAO = new AlgorithmResultDAOFile(); // Esto llamará al constructor del DAO y creará el CSV
-        // Cargar los resultados existentes del archivo al iniciar el controlador
-        this.solveResults.getResults().addAll(resultDAO.getAllResults()); 
+        // El historial del archivo ya no se carga al iniciar: el diálogo de resultados lo lee por páginas.
 
         this.mazeGrid = createDefaultMaze(rows, cols);
         this.mazePanel.setMazeGrid(this.mazeGrid);
@@ -79,13 +121,29 @@ public class MazeController {
             runAutomaticSolver(selectedAlgorithm); // Llama al nuevo método para ejecución automática
         });
 
+        // Listener para el botón "Ejecutar todos" (todos los algoritmos en paralelo)
+        mazeFrame.getRunAllButton().addActionListener(e -> runAllSolvers());
+
+        // Listener para el botón "Cancelar": detiene la búsqueda automática en curso
+        mazeFrame.getCancelButton().addActionListener(e -> {
+            if (currentCancellation != null) {
+                currentCancellation.cancel();
+                mazeFrame.getCancelButton().setEnabled(false);
+            }
+        });
+
         // Listener para el botón "Paso a paso" (ejecución manual por clic)
         mazeFrame.getStepButton().addActionListener(e -> {
             handleStepByStepClick(); // Llama al nuevo método para el paso a paso manual
         });
+        mazeFrame.getPlayButton().addActionListener(e -> handlePlayClick());
+        mazeFrame.getPauseButton().addActionListener(e -> handlePauseClick());
 
         mazeFrame.getClearButton().addActionListener(e -> clearWalls());
         mazeFrame.getVerResultadosMenuItem().addActionListener(e -> mostrarResultados());
+        mazeFrame.getAbrirLaberintoItem().addActionListener(e -> abrirLaberinto());
+        mazeFrame.getGuardarLaberintoItem().addActionListener(e -> guardarLaberinto());
+        mazeFrame.getGenerarLaberintoItem().addActionListener(e -> generarLaberinto());
 
         resultadosDialog.clearButton.addActionListener(e -> {
             int response = JOptionPane.showConfirmDialog(
@@ -95,9 +153,22 @@ public class MazeController {
             if (response == JOptionPane.YES_OPTION) {
                 solveResults.clearResults(); // Limpia la lista en memoria
                 resultDAO.clearResults();    // Limpia el archivo CSV
-                resultadosDialog.setResults(solveResults.getResults()); // Actualiza la vista
+                resultsPageOffset = 0;
+                cargarPaginaResultados(); // Actualiza la vista
             }
         });
+        resultadosDialog.previousPageButton.addActionListener(e -> {
+            resultsPageOffset = Math.max(0, resultsPageOffset - ResultadosDialog.PAGE_SIZE);
+            cargarPaginaResultados();
+        });
+        resultadosDialog.nextPageButton.addActionListener(e -> {
+            resultsPageOffset += ResultadosDialog.PAGE_SIZE;
+            cargarPaginaResultados();
+        });
+        resultadosDialog.algorithmFilter.addActionListener(e -> {
+            resultsPageOffset = 0;
+            cargarPaginaResultados();
+        });
     }
 
     /**
@@ -114,17 +185,34 @@ public class MazeController {
         }
         clearVisualPath();
         setButtonsEnabled(false); // Deshabilita botones durante la resolución automática
+        // Copia compacta tomada en el hilo de la interfaz: el hilo de fondo solo lee esta copia,
+        // nunca las celdas que la interfaz puede modificar mientras tanto.
+        PackedMaze snapshot = PackedMaze.fromCells(mazeGrid);
+        Cell[][] grid = mazeGrid; // Las celdas del camino se toman de la cuadrícula de la copia, no del campo
+        ComponentIndex components = componentIndex(snapshot);
+        CancellationToken cancellation = startCancellableSearch();
+        MazeSolver solver = getSolverByName(algorithmName);
 
-        SwingWorker<SolveResultPayload, Void> worker = new SwingWorker<>() { // Ya no publica Cells en process para este modo
+        // Publica las celdas expandidas (progreso) para mostrarlas mientras se resuelve.
+        SwingWorker<SolveResultPayload, Long> worker = new SwingWorker<>() {
             @Override
             protected SolveResultPayload doInBackground() throws Exception {
-                MazeSolver solver = getSolverByName(algorithmName);
-
+                SearchContext context = new SearchContext(snapshot, snapshot.index(start), snapshot.index(end));
+                context.setComponentIndex(components);
+                context.setCancellationToken(cancellation);
+                context.setProgressListener(expanded -> publish(expanded));
                 long startTime = System.nanoTime();
-                List<Cell> path = solver.solve(mazeGrid, start, end); // Resuelve sin animación
+                int[] path = solver instanceof IncrementalMazeSolver
+                        ? ((IncrementalMazeSolver) solver).planMeasured(context) // Conserva la búsqueda para las ediciones
+                        : solver.solveMeasured(context); // Resuelve sin animación, contando expansiones y memoria
                 long duration = System.nanoTime() - startTime;
                 
-                return new SolveResultPayload(path, duration);
+                return new SolveResultPayload(PackedMaze.toCellPath(path, grid), duration, context.getStats());
+            }
+
+            @Override
+            protected void process(List<Long> chunks) {
+                showProgress(chunks.get(chunks.size() - 1));
             }
 
             @Override
@@ -133,7 +221,15 @@ public class MazeController {
                     SolveResultPayload result = get();
                     clearVisualPath(); // Asegura limpieza visual si había algo anterior
                     addAlgoritmoResult(algorithmName, result.path(), result.duration()); // Guarda en memoria y visualiza
-                    resultDAO.saveResult(new AlgorithmResult(algorithmName, result.duration(), result.path())); // GUARDA EN EL ARCHIVO CSV
+                    AlgorithmResult saved = new AlgorithmResult(algorithmName, result.duration(), result.path());
+                    saved.setMaze(snapshot); // Huella y dimensiones del laberinto resuelto
+                    saved.setStats(result.stats());
+                    resultDAO.saveResult(saved); // GUARDA EN EL ARCHIVO CSV
+                    if (solver instanceof IncrementalMazeSolver) {
+                        liveSolver = (IncrementalMazeSolver) solver;
+                        liveMaze = snapshot;
+                        livePath = result.path();
+                    }
 
                     if (result.path().isEmpty()) {
                         JOptionPane.showMessageDialog(mazeFrame, "No se encontró un camino al destino.", "Sin Solución", JOptionPane.INFORMATION_MESSAGE);
@@ -141,6 +237,9 @@ public class MazeController {
                         JOptionPane.showMessageDialog(mazeFrame, "¡Búsqueda completada! Camino encontrado para el algoritmo " + algorithmName + ".", "Búsqueda Completada", JOptionPane.INFORMATION_MESSAGE);
                     }
                 } catch (Exception e) {
+                    if (showIfCancelled(e)) {
+                        return;
+                    }
                     e.printStackTrace();
                     String errorMessage = "Ocurrió un error al resolver.";
                     if (e.getCause() != null) {
@@ -150,6 +249,7 @@ public class MazeController {
                     }
                     JOptionPane.showMessageDialog(mazeFrame, errorMessage, "Error", JOptionPane.ERROR_MESSAGE);
                 } finally {
+                    endCancellableSearch();
                     setButtonsEnabled(true); // Habilita botones al finalizar
                 }
             }
@@ -158,75 +258,185 @@ public class MazeController {
     }
 
     /**
-     * Maneja el clic en el botón "Paso a paso" (modo manual).
-     * Cada clic avanza un solo paso del algoritmo.
+     * Ejecuta todos los algoritmos registrados a la vez, cada uno en un hilo de un pool acotado
+     * al número de núcleos, sobre la misma copia compacta del laberinto. Así una comparación
+     * completa tarda lo que el algoritmo más lento y no la suma de todos.
+     * Los resultados se guardan en memoria y en el archivo en un solo lote.
      */
-    private void handleStepByStepClick() {
-        if (!stepByStepActive) {
-            // Inicializar la búsqueda paso a paso si no está activa
-            stepByStepStart = findCell(CellState.START);
-            stepByStepEnd = findCell(CellState.END);
-
-            if (stepByStepStart == null || stepByStepEnd == null) {
-                JOptionPane.showMessageDialog(mazeFrame, "Debe definir un punto de INICIO y FIN para el modo paso a paso.", "Error", JOptionPane.ERROR_MESSAGE);
-                return;
+    private void runAllSolvers() {
+        Cell start = findCell(CellState.START);
+        Cell end = findCell(CellState.END);
+        if (start == null || end == null) {
+            JOptionPane.showMessageDialog(mazeFrame, "Debe definir un punto de INICIO y FIN.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        clearVisualPath();
+        setButtonsEnabled(false);
+        PackedMaze snapshot = PackedMaze.fromCells(mazeGrid);
+        Cell[][] grid = mazeGrid; // Los hilos del pool no leen el campo mazeGrid
+        int startIndex = snapshot.index(start);
+        int endIndex = snapshot.index(end);
+        ComponentIndex components = componentIndex(snapshot); // Compartido: todos lo consultan a la vez
+        CancellationToken cancellation = startCancellableSearch(); // Un solo token detiene a todos
+
+        SwingWorker<List<AlgorithmResult>, Long> worker = new SwingWorker<>() {
+            @Override
+            protected List<AlgorithmResult> doInBackground() throws Exception {
+                List<String> names = SolverRegistry.getAlgorithmNames();
+                int threads = Math.min(names.size(), Runtime.getRuntime().availableProcessors());
+                ExecutorService pool = Executors.newFixedThreadPool(threads);
+                // Progreso de cada algoritmo; se publica la suma.
+                AtomicLongArray progress = new AtomicLongArray(names.size());
+                try {
+                    List<Callable<AlgorithmResult>> tasks = new ArrayList<>();
+                    for (int i = 0; i < names.size(); i++) {
+                        String name = names.get(i);
+                        int slot = i;
+                        tasks.add(() -> {
+                            MazeSolver solver = SolverRegistry.create(name);
+                            SearchContext context = new SearchContext(snapshot, startIndex, endIndex);
+                            context.setComponentIndex(components);
+                            context.setCancellationToken(cancellation);
+                            context.setProgressListener(expanded -> {
+                                progress.set(slot, expanded);
+                                long total = 0;
+                                for (int k = 0; k < progress.length(); k++) {
+                                    total += progress.get(k);
+                                }
+                                publish(total);
+                            });
+                            long startTime = System.nanoTime();
+                            int[] path = solver.solveMeasured(context);
+                            long duration = System.nanoTime() - startTime;
+                            AlgorithmResult result = new AlgorithmResult(name, duration, PackedMaze.toCellPath(path, grid));
+                            result.setMaze(snapshot);
+                            result.setStats(context.getStats());
+                            return result;
+                        });
+                    }
+                    List<AlgorithmResult> results = new ArrayList<>();
+                    for (Future<AlgorithmResult> future : pool.invokeAll(tasks)) {
+                        try {
+                            results.add(future.get());
+                        } catch (ExecutionException e) {
+                            if (e.getCause() instanceof SearchCancelledException) {
+                                throw (SearchCancelledException) e.getCause();
+                            }
+                            throw e;
+                        }
+                    }
+                    return results;
+                } finally {
+                    pool.shutdownNow();
+                }
             }
 
-            // Limpiar visualmente el laberinto antes de iniciar el paso a paso
-            clearVisualPath();
-            
-            currentStepAlgorithmName = (String) mazeFrame.getAlgorithmComboBox().getSelectedItem();
-            currentStepSolver = getSolverByName(currentStepAlgorithmName);
-            
-            // Inicializar el solver para el modo paso a paso
-            currentStepSolver.initializeStepByStep(mazeGrid, stepByStepStart, stepByStepEnd);
-            stepByStepActive = true;
-            
-            // Deshabilitar botones de edición y resolver mientras el paso a paso está activo
-            mazeFrame.getSolveButton().setEnabled(false);
-            mazeFrame.getClearButton().setEnabled(false);
-            mazeFrame.getSetStartButton().setEnabled(false);
-            mazeFrame.getSetEndButton().setEnabled(false);
-            mazeFrame.getToggleWallButton().setEnabled(false);
-            // El botón de "Paso a paso" se mantiene habilitado para seguir haciendo clics.
+            @Override
+            protected void process(List<Long> chunks) {
+                showProgress(chunks.get(chunks.size() - 1));
+            }
 
-        }
+            @Override
+            protected void done() {
+                try {
+                    List<AlgorithmResult> results = get();
+                    AlgorithmResult shortest = null;
+                    for (AlgorithmResult result : results) {
+                        solveResults.getResults().removeIf(res -> res.getAlgorithmName().equals(result.getAlgorithmName()));
+                        solveResults.addResult(result);
+                        if (!result.getPath().isEmpty() && (shortest == null || result.getPathLength() < shortest.getPathLength())) {
+                            shortest = result;
+                        }
+                    }
+                    resultDAO.saveResults(results); // Un solo lote al archivo CSV
 
-        // Ejecutar el siguiente paso
-        if (currentStepSolver != null && !currentStepSolver.isStepByStepFinished()) {
-            Cell stepCell = currentStepSolver.doStep();
-            if (stepCell != null) {
-                // Marcar la celda como visitada si no es START o END
-                if (stepCell.getState() == CellState.PATH) {
-                    stepCell.setState(CellState.VISITED);
+                    if (shortest == null) {
+                        JOptionPane.showMessageDialog(mazeFrame, "Ningún algoritmo encontró un camino al destino.", "Sin Solución", JOptionPane.INFORMATION_MESSAGE);
+                    } else {
+                        // Se pinta el camino más corto encontrado entre todos los algoritmos.
+                        paintPath(shortest.getPath());
+                        JOptionPane.showMessageDialog(mazeFrame, "Se ejecutaron " + results.size() + " algoritmos. Se muestra el camino más corto (" + shortest.getAlgorithmName() + ").", "Búsqueda Completada", JOptionPane.INFORMATION_MESSAGE);
+                    }
+                    mostrarResultados();
+                } catch (Exception e) {
+                    if (showIfCancelled(e)) {
+                        return;
+                    }
+                    e.printStackTrace();
+                    String errorMessage = "Ocurrió un error al ejecutar los algoritmos.";
+                    if (e.getCause() != null) {
+                        errorMessage += "\nCausa: " + e.getCause().getMessage();
+                    }
+                    JOptionPane.showMessageDialog(mazeFrame, errorMessage, "Error", JOptionPane.ERROR_MESSAGE);
+                } finally {
+                    endCancellableSearch();
+                    setButtonsEnabled(true);
                 }
-                mazePanel.repaint(); // Repintar para mostrar la celda actual
             }
+        };
+        worker.execute();
+    }
+
+    /**
+     * Devuelve el índice de componentes del laberinto actual, construyéndolo desde la copia
+     * compacta si todavía no existe. Se deja al día aquí, en el hilo de la interfaz, para que
+     * los hilos de fondo solo lo lean.
+     */
+    private ComponentIndex componentIndex(PackedMaze snapshot) {
+        if (componentIndex == null) {
+            componentIndex = ComponentIndex.build(snapshot);
+        }
+        componentIndex.refresh();
+        return componentIndex;
+    }
+
+    /**
+     * Crea el token de la búsqueda automática que empieza y habilita el botón "Cancelar".
+     */
+    private CancellationToken startCancellableSearch() {
+        currentCancellation = new CancellationToken();
+        mazeFrame.getCancelButton().setEnabled(true);
+        mazeFrame.getProgressLabel().setText("Resolviendo...");
+        return currentCancellation;
+    }
+
+    private void endCancellableSearch() {
+        currentCancellation = null;
+        mazeFrame.getCancelButton().setEnabled(false);
+        mazeFrame.getProgressLabel().setText(" ");
+    }
+
+    private void showProgress(long expanded) {
+        mazeFrame.getProgressLabel().setText(String.format("%,d celdas expandidas", expanded));
+    }
+
+    /**
+     * Si el error de una búsqueda es que se canceló, avisa al usuario.
+     * @return true si era una cancelación (ya atendida), false si es otro error.
+     */
+    private boolean showIfCancelled(Exception e) {
+        if (!(e instanceof ExecutionException) || !(e.getCause() instanceof SearchCancelledException)) {
+            return false;
+        }
+        JOptionPane.showMessageDialog(mazeFrame, e.getCause().getMessage(), "Búsqueda Cancelada", JOptionPane.INFORMATION_MESSAGE);
+        return true;
+    }
+
+    /**
+     * Maneja el clic en el botón "Paso a paso" (modo manual).
+     * Cada clic avanza un solo paso del algoritmo.
+     */
+    private void handleStepByStepClick() {
+        if (!stepByStepActive && !startStepByStep()) {
+            return;
+        }
 
+        // Ejecutar el siguiente paso
+        if (currentStepSolver != null && !currentStepSolver.isStepByStepFinished()) {
+            advanceStep();
             // Verificar si la búsqueda ha terminado después de este paso
             if (currentStepSolver.isStepByStepFinished()) {
-                List<Cell> finalPath = currentStepSolver.getFinalPath();
-                long duration = 0; // En modo paso a paso manual, el tiempo de cada "doStep" no se mide así.
-                                   // Para fines de registro, podrías iniciar un cronómetro al comienzo del
-                                   // step-by-step y detenerlo aquí. Por ahora, lo dejamos en 0.
-                
-                // Limpia los estados VISITADOS antes de pintar la solución final
-                clearVisualPath(); 
-                // Añade el resultado de la búsqueda manual (tiempo 0 si no se mide específicamente para esto)
-                addAlgoritmoResult(currentStepAlgorithmName, finalPath, duration);
-                // GUARDA EN EL ARCHIVO CSV
-                resultDAO.saveResult(new AlgorithmResult(currentStepAlgorithmName, duration, finalPath));
-
-                if (finalPath.isEmpty()) {
-                    JOptionPane.showMessageDialog(mazeFrame, "No se encontró un camino al destino en el modo paso a paso.", "Sin Solución", JOptionPane.INFORMATION_MESSAGE);
-                } else {
-                    JOptionPane.showMessageDialog(mazeFrame, "¡Búsqueda paso a paso completada! Camino encontrado para el algoritmo " + currentStepAlgorithmName + ".", "Búsqueda Completada", JOptionPane.INFORMATION_MESSAGE);
-                }
-                
-                // Restablecer el estado para futuras búsquedas paso a paso o automáticas
-                stepByStepActive = false;
-                currentStepSolver = null;
-                setButtonsEnabled(true); // Habilita todos los botones nuevamente
+                finishStepByStep();
             }
         } else if (stepByStepActive && currentStepSolver.isStepByStepFinished()) {
             // Caso donde se hace clic en "Paso a paso" después de que ya terminó
@@ -236,25 +446,172 @@ public class MazeController {
             currentStepSolver = null;
         }
     }
-    
+
+    /**
+     * Maneja el clic en "Animar": reproduce la búsqueda paso a paso de forma automática.
+     * Si no hay una búsqueda paso a paso en curso, la inicia; si la hay (por ejemplo,
+     * avanzada a mano), la continúa desde donde quedó.
+     */
+    private void handlePlayClick() {
+        if (!stepByStepActive && !startStepByStep()) {
+            return;
+        }
+        stepsPerFrame = 1; // Se vuelve a ajustar desde el principio
+        nanosPerStep = 0;
+        stepCredit = 0;
+        playbackTimer.start();
+        mazeFrame.getPlayButton().setEnabled(false);
+        mazeFrame.getPauseButton().setEnabled(true);
+        mazeFrame.getPauseButton().setText("Pausar");
+    }
+
+    /**
+     * Alterna entre pausar y reanudar la animación. En pausa se puede seguir avanzando
+     * a mano con "Paso a paso".
+     */
+    private void handlePauseClick() {
+        if (playbackTimer.isRunning()) {
+            playbackTimer.stop();
+            mazeFrame.getPauseButton().setText("Reanudar");
+        } else if (stepByStepActive) {
+            playbackTimer.start();
+            mazeFrame.getPauseButton().setText("Pausar");
+        }
+    }
+
+    /**
+     * Un cuadro de la animación: ejecuta varios pasos seguidos y deja que Swing pinte una
+     * sola vez las celdas que cambiaron. El número de pasos por cuadro sigue a la velocidad
+     * elegida (pasos por segundo), pero nunca pasa de lo que cabe en FRAME_BUDGET_NANOS según
+     * lo que tardaron los pasos anteriores. Así la animación escala con el tamaño del
+     * laberinto sin bloquear el hilo de la interfaz.
+     */
+    private void playbackTick() {
+        if (!stepByStepActive || currentStepSolver == null) {
+            stopPlayback();
+            return;
+        }
+        // A velocidades bajas se acumula la fracción de paso que toca en cada cuadro.
+        stepCredit = Math.min(stepCredit + mazeFrame.getStepsPerSecond() * PLAYBACK_FRAME_MS / 1000.0, stepsPerFrame);
+        int steps = (int) stepCredit;
+
+        long startTime = System.nanoTime();
+        int done = 0;
+        while (done < steps && !currentStepSolver.isStepByStepFinished()) {
+            advanceStep();
+            done++;
+        }
+        long elapsed = System.nanoTime() - startTime;
+        stepCredit -= done;
+
+        if (done > 0) {
+            // Media móvil del costo por paso; con ella se calcula cuántos caben en el presupuesto.
+            long perStep = Math.max(1, elapsed / done);
+            nanosPerStep = nanosPerStep == 0 ? perStep : (3 * nanosPerStep + perStep) / 4;
+            long fits = Math.max(1, FRAME_BUDGET_NANOS / nanosPerStep);
+            // Crece como mucho al doble por cuadro para no pasarse si el costo varía.
+            stepsPerFrame = (int) Math.min(fits, Math.min(Integer.MAX_VALUE / 2, 2L * Math.max(1, stepsPerFrame)));
+        }
+
+        if (currentStepSolver.isStepByStepFinished()) {
+            finishStepByStep();
+        }
+    }
+
+    private void stopPlayback() {
+        playbackTimer.stop();
+        mazeFrame.getPauseButton().setText("Pausar");
+        mazeFrame.getPauseButton().setEnabled(false);
+    }
+
+    /**
+     * Prepara una búsqueda paso a paso con el algoritmo seleccionado.
+     * @return false si falta el inicio o el fin (ya se avisó al usuario).
+     */
+    private boolean startStepByStep() {
+        // Inicializar la búsqueda paso a paso si no está activa
+        stepByStepStart = findCell(CellState.START);
+        stepByStepEnd = findCell(CellState.END);
+
+        if (stepByStepStart == null || stepByStepEnd == null) {
+            JOptionPane.showMessageDialog(mazeFrame, "Debe definir un punto de INICIO y FIN para el modo paso a paso.", "Error", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+
+        // Limpiar visualmente el laberinto antes de iniciar el paso a paso
+        clearVisualPath();
+
+        currentStepAlgorithmName = (String) mazeFrame.getAlgorithmComboBox().getSelectedItem();
+        currentStepSolver = getSolverByName(currentStepAlgorithmName);
+
+        // Inicializar el solver para el modo paso a paso
+        currentStepSolver.initializeStepByStep(mazeGrid, stepByStepStart, stepByStepEnd);
+        stepByStepActive = true;
+
+        // Deshabilitar botones de edición y resolver mientras el paso a paso está activo
+        mazeFrame.getSolveButton().setEnabled(false);
+        mazeFrame.getRunAllButton().setEnabled(false);
+        mazeFrame.getClearButton().setEnabled(false);
+        mazeFrame.getSetStartButton().setEnabled(false);
+        mazeFrame.getSetEndButton().setEnabled(false);
+        mazeFrame.getToggleWallButton().setEnabled(false);
+        // El botón de "Paso a paso" se mantiene habilitado para seguir haciendo clics.
+        return true;
+    }
+
+    /**
+     * Ejecuta un paso del algoritmo y marca la celda procesada.
+     */
+    private void advanceStep() {
+        Cell stepCell = currentStepSolver.doStep();
+        if (stepCell != null) {
+            // Marcar la celda como visitada si no es START o END
+            if (stepCell.getState() == CellState.PATH) {
+                stepCell.setState(CellState.VISITED);
+            }
+            mazePanel.repaintCell(stepCell.getRow(), stepCell.getCol()); // Repinta solo la celda del paso
+        }
+    }
+
+    /**
+     * Cierra la búsqueda paso a paso: pinta la solución, guarda el resultado y avisa al usuario.
+     */
+    private void finishStepByStep() {
+        List<Cell> finalPath = currentStepSolver.getFinalPath();
+        long duration = 0; // En modo paso a paso manual, el tiempo de cada "doStep" no se mide así.
+                           // Para fines de registro, podrías iniciar un cronómetro al comienzo del
+                           // step-by-step y detenerlo aquí. Por ahora, lo dejamos en 0.
+
+        // Limpia los estados VISITADOS antes de pintar la solución final
+        clearVisualPath();
+        // Añade el resultado de la búsqueda manual (tiempo 0 si no se mide específicamente para esto)
+        addAlgoritmoResult(currentStepAlgorithmName, finalPath, duration);
+        // GUARDA EN EL ARCHIVO CSV
+        AlgorithmResult saved = new AlgorithmResult(currentStepAlgorithmName, duration, finalPath);
+        saved.setMaze(PackedMaze.fromCells(mazeGrid));
+        resultDAO.saveResult(saved);
+
+        // Restablecer el estado antes de mostrar el mensaje: el diálogo es modal y el
+        // temporizador de la animación podría dispararse mientras tanto.
+        stepByStepActive = false;
+        currentStepSolver = null;
+        stopPlayback(); // Por si la búsqueda terminó durante la animación o en pausa
+        setButtonsEnabled(true); // Habilita todos los botones nuevamente
+
+        if (finalPath.isEmpty()) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se encontró un camino al destino en el modo paso a paso.", "Sin Solución", JOptionPane.INFORMATION_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(mazeFrame, "¡Búsqueda paso a paso completada! Camino encontrado para el algoritmo " + currentStepAlgorithmName + ".", "Búsqueda Completada", JOptionPane.INFORMATION_MESSAGE);
+        }
+    }
+
     /**
      * Devuelve una instancia del algoritmo solicitado.
      * @param name El nombre del algoritmo.
      * @return una instancia de MazeSolver.
      */
     private MazeSolver getSolverByName(String name) {
-        switch (name) {
-            case "BFS": return new MazeSolverBFS();
-            case "DFS": return new MazeSolverDFS();
-            case "Backtracking":
-            case "Recursivo Completo BT":
-                return new MazeSolverRecursivoCompletoBT();
-            case "Recursivo": 
-                return new MazeSolverRecursivo();
-            case "Recursivo Completo":
-                return new MazeSolverRecursivoCompleto();
-            default: return null;
-        }
+        return SolverRegistry.create(name);
     }
     
     // --- MÉTODOS AUXILIARES ---
@@ -263,8 +620,13 @@ public class MazeController {
     
     private void setButtonsEnabled(boolean enabled) {
         mazeFrame.getSolveButton().setEnabled(enabled);
+        mazeFrame.getRunAllButton().setEnabled(enabled);
         mazeFrame.getStepButton().setEnabled(enabled);
+        mazeFrame.getPlayButton().setEnabled(enabled);
         mazeFrame.getClearButton().setEnabled(enabled);
+        // Abrir o generar otro laberinto cambiaría la cuadrícula mientras una búsqueda la usa.
+        mazeFrame.getAbrirLaberintoItem().setEnabled(enabled);
+        mazeFrame.getGenerarLaberintoItem().setEnabled(enabled);
         // Habilita/deshabilita los botones de edición también
         mazeFrame.getSetStartButton().setEnabled(enabled);
         mazeFrame.getSetEndButton().setEnabled(enabled);
@@ -278,35 +640,86 @@ public class MazeController {
             return;
         }
 
+        // Mientras se resuelve, el índice de componentes lo están leyendo los hilos de fondo.
+        if (currentCancellation != null) return;
+
         // Verifica que las coordenadas estén dentro de los límites del laberinto.
         if (row < 0 || row >= mazeGrid.length || col < 0 || col >= mazeGrid[0].length) return;
+        boolean wasWall = mazeGrid[row][col].getState() == CellState.WALL;
+        Cell previous = null; // Celda que pierde su estado al mover el inicio o el fin
         switch (currentEditMode) {
             case "Set Start":
                 // Elimina cualquier otro punto de inicio y establece el nuevo.
-                findAndReplaceState(CellState.START, CellState.PATH);
+                previous = findAndReplaceState(CellState.START, CellState.PATH);
                 mazeGrid[row][col].setState(CellState.START);
                 break;
             case "Set End":
                 // Elimina cualquier otro punto final y establece el nuevo.
-                findAndReplaceState(CellState.END, CellState.PATH);
+                previous = findAndReplaceState(CellState.END, CellState.PATH);
                 mazeGrid[row][col].setState(CellState.END);
                 break;
             case "Toggle Wall":
-                // Cambia el estado de la celda entre WALL y PATH.
+                // Cambia el estado de la celda entre WALL y PATH. Las celdas pintadas por una
+                // búsqueda también se pueden tapiar (por ejemplo, para cortar el camino actual).
                 Cell cell = mazeGrid[row][col];
-                if (cell.getState() == CellState.WALL) cell.setState(CellState.PATH);
-                else if (cell.getState() == CellState.PATH) cell.setState(CellState.WALL);
+                CellState state = cell.getState();
+                if (state == CellState.WALL) cell.setState(CellState.PATH);
+                else if (state == CellState.PATH || state == CellState.SOLUTION || state == CellState.VISITED) cell.setState(CellState.WALL);
                 break;
         }
-        mazePanel.repaint(); // Repinta el panel después de un cambio en el laberinto.
+        // Un muro que aparece o desaparece cambia la conectividad (el inicio y el fin nunca son muro).
+        boolean isWall = mazeGrid[row][col].getState() == CellState.WALL;
+        if (componentIndex != null && isWall != wasWall) {
+            componentIndex.setWall(row * mazeGrid[0].length + col, isWall);
+        }
+        if (liveSolver != null) {
+            if (!currentEditMode.equals("Toggle Wall")) {
+                liveSolver = null; // LPA* tiene inicio y destino fijos: moverlos exige resolver de nuevo.
+            } else if (isWall != wasWall) {
+                replanLivePath(row, col, isWall);
+            }
+        }
+        // Repinta solo las celdas que cambiaron, no todo el laberinto.
+        mazePanel.repaintCell(row, col);
+        if (previous != null) {
+            mazePanel.repaintCell(previous.getRow(), previous.getCol());
+        }
     }
     
+    /**
+     * Aplica un cambio de muro a la sesión incremental y sustituye el camino pintado por el
+     * reparado. Solo se repintan las celdas de los dos caminos.
+     */
+    private void replanLivePath(int row, int col, boolean isWall) {
+        long startTime = System.nanoTime();
+        liveMaze.setWall(row, col, isWall);
+        liveSolver.onCellChanged(row, col);
+        List<Cell> path = PackedMaze.toCellPath(liveSolver.replan(), mazeGrid);
+        long duration = System.nanoTime() - startTime;
+
+        for (Cell cell : livePath) {
+            if (cell.getState() == CellState.SOLUTION) {
+                cell.setState(CellState.PATH);
+            }
+        }
+        mazePanel.repaintCells(livePath);
+        paintPath(path);
+        livePath = path;
+        mazeFrame.getProgressLabel().setText(path.isEmpty()
+                ? "Sin camino tras la edición"
+                : String.format("Camino recalculado en %.1f ms (%,d celdas expandidas)",
+                        duration / 1e6, liveSolver.getLastExpanded()));
+    }
+
     private void addAlgoritmoResult(String algorithmName, List<Cell> path, long executionTime) {
         // Elimina el resultado anterior si el algoritmo ya existía para evitar duplicados en la tabla.
         solveResults.getResults().removeIf(res -> res.getAlgorithmName().equals(algorithmName));
         // Añade el nuevo resultado al modelo en memoria.
         solveResults.addResult(new AlgorithmResult(algorithmName, executionTime, path)); 
-        
+        paintPath(path);
+    }
+
+    private void paintPath(List<Cell> path) {
         // Marca las celdas de la ruta de la solución final.
         for (Cell cell : path) {
             // Asegura no sobrescribir START o END si son parte del camino.
@@ -314,18 +727,115 @@ public class MazeController {
                 cell.setState(CellState.SOLUTION);
             }
         }
-        mazePanel.repaint(); // Repinta el laberinto para mostrar la solución final.
+        mazePanel.repaintCells(path); // Repinta solo las celdas de la solución final.
     }
     
     private void mostrarResultados() {
         // Actualiza y muestra el diálogo de resultados con los datos actuales.
-        // Los datos se leen del DAO cada vez que se muestra el diálogo para asegurar que estén al día con el CSV.
-        solveResults.getResults().clear(); // Limpia la memoria antes de recargar
-        solveResults.getResults().addAll(resultDAO.getAllResults()); // Carga desde el archivo
-        resultadosDialog.setResults(solveResults.getResults());
+        // Los datos se leen del DAO cada vez que se muestra el diálogo para asegurar que estén al día con el CSV,
+        // pero solo la primera página: el resto se carga al avanzar de página.
+        resultsPageOffset = 0;
+        cargarPaginaResultados();
         resultadosDialog.setVisible(true);
     }
+
+    private void cargarPaginaResultados() {
+        // Lee del DAO solo las filas de la página visible, con el filtro de algoritmo del diálogo.
+        ResultQuery query = ResultQuery.all().algorithm(resultadosDialog.getSelectedAlgorithm());
+        long total = resultDAO.countResults(query);
+        if (resultsPageOffset >= total) {
+            // Si la página ya no existe (por ejemplo, tras limpiar), se muestra la última.
+            resultsPageOffset = Math.max(0, (total - 1) / ResultadosDialog.PAGE_SIZE * ResultadosDialog.PAGE_SIZE);
+        }
+        List<AlgorithmResult> page;
+        try (Stream<AlgorithmResult> results = resultDAO.streamResults(query.page(resultsPageOffset, ResultadosDialog.PAGE_SIZE))) {
+            page = results.collect(Collectors.toList());
+        }
+        resultadosDialog.setPage(page, resultsPageOffset, total);
+    }
     
+    /**
+     * Carga un laberinto desde un archivo (binario .maze o texto) y reemplaza el actual.
+     */
+    private void abrirLaberinto() {
+        if (stepByStepActive) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se puede abrir un laberinto mientras el modo paso a paso está activo.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (currentCancellation != null) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se puede abrir un laberinto mientras se está resolviendo.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        JFileChooser chooser = createMazeFileChooser();
+        if (chooser.showOpenDialog(mazeFrame) != JFileChooser.APPROVE_OPTION) return;
+        Path path = chooser.getSelectedFile().toPath();
+        try {
+            PackedMaze maze = MazeDAO.forPath(path).load(path);
+            this.mazeGrid = maze.toCells();
+            this.componentIndex = null;
+            this.liveSolver = null;
+            mazePanel.setMazeGrid(mazeGrid);
+        } catch (IOException | IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se pudo abrir el laberinto.\nCausa: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Reemplaza el laberinto actual por uno generado, del mismo tamaño, con el algoritmo y la
+     * semilla que elija el usuario. La misma semilla produce siempre el mismo laberinto.
+     */
+    private void generarLaberinto() {
+        if (stepByStepActive) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se puede generar un laberinto mientras el modo paso a paso está activo.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (currentCancellation != null) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se puede generar un laberinto mientras se está resolviendo.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        JComboBox<String> generatorBox = new JComboBox<>(GeneratorRegistry.getNames().toArray(new String[0]));
+        JTextField seedField = new JTextField(String.valueOf(System.currentTimeMillis() % 100_000), 10);
+        Object[] fields = {"Algoritmo:", generatorBox, "Semilla:", seedField};
+        int option = JOptionPane.showConfirmDialog(mazeFrame, fields, "Generar Laberinto", JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) return;
+        try {
+            long seed = Long.parseLong(seedField.getText().trim());
+            MazeGenerator generator = GeneratorRegistry.create((String) generatorBox.getSelectedItem());
+            PackedMaze maze = generator.generate(mazeGrid.length, mazeGrid[0].length, seed);
+            this.mazeGrid = maze.toCells();
+            this.componentIndex = null;
+            this.liveSolver = null;
+            mazePanel.setMazeGrid(mazeGrid);
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(mazeFrame, "La semilla debe ser un número entero.", "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Guarda el laberinto actual (muros, inicio y fin). Si el nombre no tiene extensión se usa el formato binario.
+     */
+    private void guardarLaberinto() {
+        JFileChooser chooser = createMazeFileChooser();
+        if (chooser.showSaveDialog(mazeFrame) != JFileChooser.APPROVE_OPTION) return;
+        File file = chooser.getSelectedFile();
+        if (!file.getName().contains(".")) {
+            file = new File(file.getPath() + MazeDAOBinary.EXTENSION);
+        }
+        Path path = file.toPath();
+        try {
+            MazeDAO.forPath(path).save(PackedMaze.fromCells(mazeGrid), path);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(mazeFrame, "No se pudo guardar el laberinto.\nCausa: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private JFileChooser createMazeFileChooser() {
+        JFileChooser chooser = new JFileChooser(new File("."));
+        chooser.addChoosableFileFilter(new FileNameExtensionFilter("Laberinto binario (*.maze)", "maze"));
+        chooser.addChoosableFileFilter(new FileNameExtensionFilter("Laberinto de texto (*.txt)", "txt"));
+        return chooser;
+    }
+
     private void clearWalls() {
         // Si el modo paso a paso está activo, no permitimos limpiar.
         if (stepByStepActive) {
@@ -341,14 +851,18 @@ public class MazeController {
                 }
             }
         }
-        mazePanel.repaint(); // Repinta para reflejar la limpieza.
+        liveSolver = null;
+        componentIndex = null; // Sin muros, todo queda conectado: se recalcula al resolver.
+        mazePanel.refresh(); // Repinta todo el laberinto para reflejar la limpieza.
     }
     
     private void clearVisualPath() {
         // Limpia solo los estados visuales temporales (solución pintada y visitadas).
+        // Sin el camino pintado, la sesión incremental ya no tiene nada que actualizar.
+        liveSolver = null;
         clearState(CellState.SOLUTION);
         clearState(CellState.VISITED);
-        mazePanel.repaint(); // Asegura que los cambios se visualicen inmediatamente.
+        mazePanel.refresh(); // Asegura que los cambios se visualicen inmediatamente.
     }
 
     private void clearVisitedState() {
@@ -368,16 +882,18 @@ public class MazeController {
         }
     }
     
-    private void findAndReplaceState(CellState toFind, CellState toReplace) {
+    private Cell findAndReplaceState(CellState toFind, CellState toReplace) {
         // Busca una celda con 'toFind' y cambia su estado a 'toReplace'. Útil para reubicar START/END.
+        // Devuelve la celda modificada (o null) para poder repintarla.
         for (Cell[] row : mazeGrid) {
             for (Cell cell : row) {
                 if (cell.getState() == toFind) {
                     cell.setState(toReplace);
-                    return; // Se asume que solo hay una celda de este tipo (START o END).
+                    return cell; // Se asume que solo hay una celda de este tipo (START o END).
                 }
             }
         }
+        return null;
     }
     
     private Cell findCell(CellState state) {
@@ -1,7 +1,14 @@
 package dao;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import models.AlgorithmResult;
+import models.AlgorithmSummary;
 
 /**
  * Define el contrato (las reglas) para cualquier clase que gestione la persistencia
@@ -17,12 +24,84 @@ public interface AlgorithmResultDAO {
      */
     void saveResult(AlgorithmResult result);
 
+    /**
+     * Guarda de una sola vez los resultados de varios algoritmos (por ejemplo, los de "Ejecutar todos").
+     * La implementación por defecto los guarda uno por uno; las implementaciones pueden
+     * sobrescribirla para escribirlos todos en una única operación.
+     * * @param results Los resultados a guardar.
+     */
+    default void saveResults(Collection<AlgorithmResult> results) {
+        for (AlgorithmResult result : results) {
+            saveResult(result);
+        }
+    }
+
     /**
      * Recupera todos los resultados de los algoritmos que han sido guardados previamente.
      * * @return Una lista (List) de objetos AlgorithmResult con los datos recuperados.
      */
     List<AlgorithmResult> getAllResults();
 
+    /**
+     * Consulta los resultados guardados de forma perezosa: se leen a medida que se consume el Stream,
+     * así que se puede pedir una página sin cargar todo el historial.
+     * La implementación por defecto filtra el resultado de getAllResults(); las implementaciones
+     * sobre archivos grandes deberían sobrescribirla.
+     * * El Stream puede mantener abierto el archivo: hay que cerrarlo (try-with-resources).
+     * * @param query Filtros y paginación.
+     * @return Los resultados que cumplen la consulta, en el orden en que se guardaron.
+     */
+    default Stream<AlgorithmResult> streamResults(ResultQuery query) {
+        return getAllResults().stream()
+                .filter(query::matches)
+                .skip(query.getOffset())
+                .limit(query.getLimit());
+    }
+
+    /**
+     * Cuenta los resultados que cumplen los filtros de la consulta (la paginación se ignora).
+     * * @param query Los filtros a aplicar.
+     * @return El número de resultados que cumplen los filtros.
+     */
+    default long countResults(ResultQuery query) {
+        try (Stream<AlgorithmResult> results = streamResults(query.page(0, Integer.MAX_VALUE))) {
+            return results.count();
+        }
+    }
+
+    /**
+     * Resume los tiempos guardados por algoritmo y tamaño de laberinto (mínimo, mediana y p99).
+     * La implementación por defecto recorre streamResults(); los almacenes que guardan las
+     * dimensiones del laberinto pueden calcularlo directamente sobre sus registros.
+     * Los resultados sin dimensiones conocidas se agrupan con tamaño 0x0.
+     * * @return Un resumen por cada combinación de algoritmo y tamaño, en orden de primera aparición.
+     */
+    default List<AlgorithmSummary> summarizeByAlgorithmAndSize() {
+        Map<String, long[]> times = new LinkedHashMap<>();
+        Map<String, AlgorithmResult> firstOfGroup = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        try (Stream<AlgorithmResult> results = streamResults(ResultQuery.all())) {
+            results.forEach(result -> {
+                String key = result.getAlgorithmName() + '\u0000' + result.getMazeRows() + 'x' + result.getMazeCols();
+                firstOfGroup.putIfAbsent(key, result);
+                int count = counts.merge(key, 1, Integer::sum);
+                long[] group = times.computeIfAbsent(key, k -> new long[16]);
+                if (count > group.length) {
+                    group = Arrays.copyOf(group, group.length * 2);
+                    times.put(key, group);
+                }
+                group[count - 1] = result.getExecutionTime();
+            });
+        }
+        List<AlgorithmSummary> summaries = new ArrayList<>(times.size());
+        for (Map.Entry<String, AlgorithmResult> entry : firstOfGroup.entrySet()) {
+            AlgorithmResult first = entry.getValue();
+            summaries.add(AlgorithmSummary.of(first.getAlgorithmName(), first.getMazeRows(), first.getMazeCols(),
+                    times.get(entry.getKey()), counts.get(entry.getKey())));
+        }
+        return summaries;
+    }
+
     /**
      * Borra todos los resultados almacenados en la fuente de datos.
      */
@@ -0,0 +1,43 @@
+package dao;
+
+import dao.daoImpl.MazeDAOBinary;
+import dao.daoImpl.MazeDAOText;
+import java.io.IOException;
+import java.nio.file.Path;
+import models.PackedMaze;
+
+/**
+ * Define el contrato para guardar y cargar laberintos completos (muros, inicio y destino).
+ * * Igual que AlgorithmResultDAO, separa el formato del archivo de la lógica que usa
+ * el laberinto. Se trabaja siempre con la representación compacta (PackedMaze), para que
+ * la herramienta sin interfaz gráfica pueda cargar laberintos sin crear objetos Cell.
+ */
+public interface MazeDAO {
+
+    /**
+     * Carga un laberinto desde un archivo.
+     * * @param path La ruta del archivo.
+     * @return El laberinto leído. Inicio y destino valen -1 si el archivo no los define.
+     * @throws IOException Si el archivo no se puede leer o su formato no es válido.
+     */
+    PackedMaze load(Path path) throws IOException;
+
+    /**
+     * Guarda un laberinto en un archivo, sobrescribiéndolo si ya existe.
+     * * @param maze El laberinto a guardar.
+     * @param path La ruta del archivo.
+     * @throws IOException Si el archivo no se puede escribir.
+     */
+    void save(PackedMaze maze, Path path) throws IOException;
+
+    /**
+     * Elige la implementación según la extensión del archivo: binaria para
+     * {@value MazeDAOBinary#EXTENSION} y de texto (ASCII) para cualquier otra.
+     * * @param path La ruta del archivo a leer o escribir.
+     * @return El DAO adecuado para ese archivo.
+     */
+    static MazeDAO forPath(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(MazeDAOBinary.EXTENSION) ? new MazeDAOBinary() : new MazeDAOText();
+    }
+}
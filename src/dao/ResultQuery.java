@@ -0,0 +1,95 @@
+package dao;
+
+import models.AlgorithmResult;
+
+/**
+ * Criterios para consultar resultados guardados: filtro por algoritmo, rango de tiempo
+ * de ejecución y paginación. Es inmutable; cada método devuelve una copia modificada,
+ * por ejemplo: {@code ResultQuery.all().algorithm("BFS").page(100, 50)}.
+ */
+public final class ResultQuery {
+
+    private final String algorithm;   // null = cualquier algoritmo
+    private final long minTime;       // En nanosegundos, inclusivo
+    private final long maxTime;       // En nanosegundos, inclusivo
+    private final long offset;        // Filas que cumplen el filtro que se saltan
+    private final int limit;          // Máximo de filas devueltas
+
+    private ResultQuery(String algorithm, long minTime, long maxTime, long offset, int limit) {
+        this.algorithm = algorithm;
+        this.minTime = minTime;
+        this.maxTime = maxTime;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * @return Una consulta sin filtros ni paginación (todos los resultados).
+     */
+    public static ResultQuery all() {
+        return new ResultQuery(null, Long.MIN_VALUE, Long.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param algorithm El nombre del algoritmo, o null para no filtrar por algoritmo.
+     */
+    public ResultQuery algorithm(String algorithm) {
+        return new ResultQuery(algorithm, minTime, maxTime, offset, limit);
+    }
+
+    /**
+     * @param minTime Tiempo mínimo de ejecución en nanosegundos (inclusivo).
+     * @param maxTime Tiempo máximo de ejecución en nanosegundos (inclusivo).
+     */
+    public ResultQuery executionTimeBetween(long minTime, long maxTime) {
+        return new ResultQuery(algorithm, minTime, maxTime, offset, limit);
+    }
+
+    /**
+     * @param offset Cuántos resultados (de los que cumplen los filtros) saltar.
+     * @param limit Cuántos resultados devolver como máximo.
+     */
+    public ResultQuery page(long offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Paginación inválida: offset=" + offset + ", limit=" + limit);
+        }
+        return new ResultQuery(algorithm, minTime, maxTime, offset, limit);
+    }
+
+    // Getters
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public long getMinTime() {
+        return minTime;
+    }
+
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return true si la consulta filtra por algoritmo o por tiempo (la paginación no cuenta).
+     */
+    public boolean hasFilters() {
+        return algorithm != null || minTime != Long.MIN_VALUE || maxTime != Long.MAX_VALUE;
+    }
+
+    /**
+     * Indica si un resultado cumple los filtros (sin tener en cuenta la paginación).
+     */
+    public boolean matches(AlgorithmResult result) {
+        long time = result.getExecutionTime();
+        return (algorithm == null || algorithm.equals(result.getAlgorithmName()))
+                && time >= minTime && time <= maxTime;
+    }
+}
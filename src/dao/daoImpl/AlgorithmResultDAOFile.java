@@ -1,11 +1,27 @@
 package dao.daoImpl;
 
 import dao.AlgorithmResultDAO;
+import dao.ResultQuery;
 import models.AlgorithmResult;
+import models.SearchStats;
 import java.io.*;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación del DAO (Data Access Object) para manejar la persistencia de los
@@ -14,34 +30,50 @@ import java.util.List;
  */
 public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
     // La ruta del archivo CSV donde se guardarán los resultados.
-    private final String filePath = "results.csv";
-    // La cabecera estándar para el archivo CSV. Ahora incluye PathLength y Found
-    private static final String HEADER = "Algorithm,ExecutionTime(ns),PathLength,Found";
+    private final String filePath;
+    // La cabecera estándar para el archivo CSV. Ahora incluye PathLength, Found y las estadísticas de la búsqueda.
+    // Las filas sin estadísticas (paso a paso, o archivos antiguos) solo tienen las cuatro primeras columnas.
+    private static final String HEADER = "Algorithm,ExecutionTime(ns),PathLength,Found,NodesExpanded,NodesEnqueued,PeakFrontier,MaxDepth,BytesAllocated";
+
+    // Cada cuántas filas se guarda una posición en el índice disperso
+    private static final int INDEX_STRIDE = 1024;
 
     // Objeto para sincronizar el acceso al archivo
     private final Object fileLock = new Object();
 
+    // Índice disperso: posición en bytes de las filas 0, INDEX_STRIDE, 2*INDEX_STRIDE...
+    // Como el archivo solo crece al final, se completa de forma incremental en cada consulta.
+    private long[] rowOffsets = new long[16];
+    private int rowOffsetCount;
+    private long indexedRows;  // Filas completas ya indexadas
+    private long indexedBytes; // Bytes del archivo cubiertos por el índice (hasta el último salto de línea)
+
     /**
      * Constructor de la clase.
      * Verifica si el archivo "results.csv" existe. Si no existe, lo crea y le
      * añade la cabecera (HEADER).
      */
     public AlgorithmResultDAOFile() {
-        System.out.println("DEBUG: Constructor de AlgorithmResultDAOFile llamado.");
+        this("results.csv");
+    }
+
+    /**
+     * Crea el DAO sobre un archivo CSV concreto (por ejemplo, uno por cada ejecución por lotes).
+     * Si el archivo no existe, lo crea con la cabecera.
+     * @param filePath La ruta del archivo CSV.
+     */
+    public AlgorithmResultDAOFile(String filePath) {
+        this.filePath = filePath;
         synchronized (fileLock) { // Sincronizar el bloque para asegurar que solo una instancia acceda al archivo al inicio
             File file = new File(filePath);
             if (!file.exists()) {
-                System.out.println("DEBUG: results.csv no existe. Intentando crearlo.");
                 try (PrintWriter writer = new PrintWriter(new FileWriter(file, false))) { // Usar 'file' en lugar de 'filePath'
                     writer.println(HEADER);
                     writer.flush(); // Asegurarse de que el contenido se escriba inmediatamente
-                    System.out.println("DEBUG: results.csv creado y cabecera escrita.");
                 } catch (IOException e) {
-                    System.err.println("ERROR: Fallo al crear results.csv: " + e.getMessage());
+                    System.err.println("ERROR: Fallo al crear " + filePath + ": " + e.getMessage());
                     e.printStackTrace();
                 }
-            } else {
-                System.out.println("DEBUG: results.csv ya existe.");
             }
         }
     }
@@ -49,59 +81,293 @@ public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
     /**
      * Guarda el resultado de la ejecución de un algoritmo en el archivo CSV.
      * Añade una nueva línea al final del archivo sin sobreescribir los datos existentes.
+     * Para muchos resultados seguidos conviene {@link #saveResults(Collection)}, que abre el
+     * archivo una sola vez.
      * @param result El objeto AlgorithmResult que contiene los datos a guardar.
      */
     @Override
     public void saveResult(AlgorithmResult result) {
+        saveResults(Collections.singletonList(result));
+    }
+
+    /**
+     * Guarda varios resultados abriendo el archivo una sola vez. Todas las líneas se
+     * arman en memoria y se escriben con una única llamada al búfer, sin String.format.
+     * @param results Los resultados a añadir al final del archivo.
+     */
+    @Override
+    public void saveResults(Collection<AlgorithmResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder(48 * results.size());
+        for (AlgorithmResult result : results) {
+            appendLine(lines, result);
+        }
         synchronized (fileLock) { // Sincronizar el acceso para escribir
-            try (PrintWriter writer = new PrintWriter(new FileWriter(filePath, true))) {
-                String line = String.format("%s,%d,%d,%b",
-                        result.getAlgorithmName(),
-                        result.getExecutionTime(),
-                        result.getPathLength(),
-                        !result.getPath().isEmpty());
-                writer.println(line);
-                writer.flush(); // Asegurarse de que el contenido se escriba inmediatamente
-                System.out.println("DEBUG: Resultado guardado: " + line);
+            try (Writer writer = new BufferedWriter(new FileWriter(filePath, true))) {
+                writer.append(lines);
             } catch (IOException e) {
-                System.err.println("ERROR: Fallo al guardar resultado en results.csv: " + e.getMessage());
+                System.err.println("ERROR: Fallo al guardar resultados en " + filePath + ": " + e.getMessage());
                 e.printStackTrace();
             }
         }
     }
 
+    /**
+     * Añade la línea CSV de un resultado (con su salto de línea) al final del StringBuilder.
+     */
+    private static void appendLine(StringBuilder sb, AlgorithmResult result) {
+        sb.append(result.getAlgorithmName()).append(',')
+                .append(result.getExecutionTime()).append(',')
+                .append(result.getPathLength()).append(',')
+                .append(result.getPathLength() > 0);
+        SearchStats stats = result.getStats();
+        if (stats != null) {
+            sb.append(',').append(stats.getNodesExpanded())
+                    .append(',').append(stats.getNodesEnqueued())
+                    .append(',').append(stats.getPeakFrontier())
+                    .append(',').append(stats.getMaxDepth())
+                    .append(',').append(stats.getBytesAllocated());
+        }
+        sb.append(System.lineSeparator());
+    }
+
     /**
      * Lee todos los resultados guardados desde el archivo CSV.
      * @return Una lista de objetos AlgorithmResult con los datos leídos.
      */
     @Override
     public List<AlgorithmResult> getAllResults() {
-        List<AlgorithmResult> results = new ArrayList<>();
-        synchronized (fileLock) { // Sincronizar el acceso para leer
-            // Verificar si el archivo existe antes de intentar leerlo
-            File file = new File(filePath);
-            if (!file.exists()) {
-                System.out.println("DEBUG: results.csv no encontrado al intentar leer. Retornando lista vacía.");
-                return Collections.emptyList();
+        try (Stream<AlgorithmResult> results = streamResults(ResultQuery.all())) {
+            return results.collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            System.err.println("ERROR: Fallo al leer " + filePath + ": " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Lee los resultados bajo demanda, línea por línea. Sin filtros, la paginación usa el
+     * índice disperso para saltar directamente cerca de la fila pedida, así que abrir la
+     * última página de un historial de millones de filas solo lee unas mil líneas.
+     * Con filtros hay que recorrer el archivo, pero solo hasta completar la página.
+     */
+    @Override
+    public Stream<AlgorithmResult> streamResults(ResultQuery query) {
+        long startOffset;
+        long linesAvailable;
+        long skipLines;
+        synchronized (fileLock) {
+            updateIndex();
+            if (indexedRows == 0 || (!query.hasFilters() && query.getOffset() >= indexedRows)) {
+                return Stream.empty();
+            }
+            long firstRow = query.hasFilters() ? 0 : query.getOffset();
+            int block = (int) (firstRow / INDEX_STRIDE);
+            startOffset = rowOffsets[block];
+            linesAvailable = indexedRows - (long) block * INDEX_STRIDE;
+            skipLines = firstRow - (long) block * INDEX_STRIDE;
+        }
+
+        BufferedReader reader;
+        try {
+            FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+            channel.position(startOffset);
+            reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), Charset.defaultCharset()), 1 << 16);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Solo se leen las líneas indexadas: una línea que se esté escribiendo ahora mismo se ignora.
+        ResultIterator iterator = new ResultIterator(reader, linesAvailable, skipLines,
+                query.hasFilters() ? query : null, query.hasFilters() ? query.getOffset() : 0, query.getLimit());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Sin filtros, el número de filas sale directamente del índice, sin leer el archivo.
+     */
+    @Override
+    public long countResults(ResultQuery query) {
+        if (!query.hasFilters()) {
+            synchronized (fileLock) {
+                updateIndex();
+                return indexedRows;
+            }
+        }
+        return AlgorithmResultDAO.super.countResults(query);
+    }
+
+    /**
+     * Completa el índice disperso con las filas añadidas desde la última consulta.
+     * Si el archivo se hizo más pequeño (se limpió desde fuera), el índice se reconstruye.
+     * Debe llamarse con fileLock tomado.
+     */
+    private void updateIndex() {
+        File file = new File(filePath);
+        long length = file.length();
+        if (length < indexedBytes) {
+            resetIndex();
+        }
+        if (length == indexedBytes) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+            long position = indexedBytes;
+            long lineStart = indexedBytes;
+            boolean headerPending = indexedBytes == 0;
+            channel.position(position);
+            while (position < length) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) != '\n') {
+                        continue;
+                    }
+                    long lineEnd = position + i + 1;
+                    if (headerPending) {
+                        headerPending = false; // La primera línea es la cabecera
+                    } else {
+                        if (indexedRows % INDEX_STRIDE == 0) {
+                            addRowOffset(lineStart);
+                        }
+                        indexedRows++;
+                    }
+                    lineStart = lineEnd;
+                    indexedBytes = lineEnd;
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Fallo al indexar " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private void addRowOffset(long offset) {
+        if (rowOffsetCount == rowOffsets.length) {
+            rowOffsets = Arrays.copyOf(rowOffsets, rowOffsetCount * 2);
+        }
+        rowOffsets[rowOffsetCount++] = offset;
+    }
+
+    private void resetIndex() {
+        rowOffsetCount = 0;
+        indexedRows = 0;
+        indexedBytes = 0;
+    }
+
+    /**
+     * Convierte una línea del CSV en un resultado sin usar split ni expresiones regulares.
+     * @return El resultado, o null si la línea no tiene el formato esperado.
+     */
+    private static AlgorithmResult parseLine(String line) {
+        int c1 = line.indexOf(',');
+        int c2 = c1 < 0 ? -1 : line.indexOf(',', c1 + 1);
+        if (c2 < 0) {
+            return null;
+        }
+        int c3 = line.indexOf(',', c2 + 1);
+        try {
+            long time = Long.parseLong(line, c1 + 1, c2, 10);
+            int length = Integer.parseInt(line, c2 + 1, c3 < 0 ? line.length() : c3, 10);
+            AlgorithmResult result = new AlgorithmResult(line.substring(0, c1), time, length);
+            int c4 = c3 < 0 ? -1 : line.indexOf(',', c3 + 1); // Después de Found empiezan las estadísticas
+            if (c4 >= 0) {
+                long[] values = new long[5];
+                int from = c4 + 1;
+                for (int i = 0; i < values.length; i++) {
+                    int to = line.indexOf(',', from);
+                    if (to < 0) {
+                        to = line.length();
+                    }
+                    values[i] = Long.parseLong(line, from, to, 10);
+                    from = to + 1;
+                }
+                result.setStats(new SearchStats(values[0], values[1], (int) values[2], (int) values[3], values[4]));
+            }
+            return result;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Recorre las líneas del archivo aplicando filtro y paginación a medida que se piden.
+     */
+    private static class ResultIterator implements Iterator<AlgorithmResult> {
+        private final BufferedReader reader;
+        private long linesLeft;      // Líneas indexadas que quedan por leer
+        private long skipLines;      // Líneas a saltar sin interpretar (paginación por índice)
+        private final ResultQuery filter;
+        private long skipMatches;    // Resultados que cumplen el filtro a saltar
+        private long remaining;      // Resultados que faltan por devolver
+        private AlgorithmResult next;
+
+        ResultIterator(BufferedReader reader, long linesLeft, long skipLines, ResultQuery filter, long skipMatches, int limit) {
+            this.reader = reader;
+            this.linesLeft = linesLeft;
+            this.skipLines = skipLines;
+            this.filter = filter;
+            this.skipMatches = skipMatches;
+            this.remaining = limit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
             }
-            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-                String line = reader.readLine(); // Saltar la línea de la cabecera.
-                while ((line = reader.readLine()) != null) {
-                    String[] data = line.split(",");
-                    if (data.length >= 3) {
-                        String name = data[0];
-                        long time = Long.parseLong(data[1]);
-                        int length = Integer.parseInt(data[2]);
-                        results.add(new AlgorithmResult(name, time, length));
+            try {
+                while (remaining > 0 && linesLeft > 0) {
+                    String line = reader.readLine();
+                    linesLeft--;
+                    if (line == null) {
+                        linesLeft = 0;
+                        break;
+                    }
+                    if (skipLines > 0) {
+                        skipLines--;
+                        continue;
+                    }
+                    AlgorithmResult result = parseLine(line);
+                    if (result == null || (filter != null && !filter.matches(result))) {
+                        continue;
+                    }
+                    if (skipMatches > 0) {
+                        skipMatches--;
+                        continue;
                     }
+                    remaining--;
+                    next = result;
+                    return true;
                 }
-                System.out.println("DEBUG: " + results.size() + " resultados leídos de results.csv.");
-            } catch (IOException | NumberFormatException e) {
-                System.err.println("ERROR: Fallo al leer results.csv: " + e.getMessage());
-                e.printStackTrace();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return false;
+        }
+
+        @Override
+        public AlgorithmResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            AlgorithmResult result = next;
+            next = null;
+            return result;
         }
-        return results;
     }
 
     /**
@@ -110,13 +376,12 @@ public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
     @Override
     public void clearResults() {
         synchronized (fileLock) { // Sincronizar el acceso para limpiar
-            System.out.println("DEBUG: Intentando limpiar results.csv.");
             try (PrintWriter writer = new PrintWriter(new FileWriter(filePath, false))) { // false para sobrescribir
                 writer.println(HEADER); // Trunca el archivo y escribe solo la cabecera.
                 writer.flush(); // Asegurarse de que el contenido se escriba inmediatamente
-                System.out.println("DEBUG: results.csv limpiado exitosamente.");
+                resetIndex();
             } catch (IOException e) {
-                System.err.println("ERROR: Fallo al limpiar results.csv: " + e.getMessage());
+                System.err.println("ERROR: Fallo al limpiar " + filePath + ": " + e.getMessage());
                 e.printStackTrace();
             }
         }
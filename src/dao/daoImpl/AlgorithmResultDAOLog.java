@@ -0,0 +1,395 @@
+package dao.daoImpl;
+
+import dao.AlgorithmResultDAO;
+import dao.ResultQuery;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import models.AlgorithmResult;
+import models.AlgorithmSummary;
+
+/**
+ * Implementación del DAO como registro binario de solo-añadir (append-only log).
+ * A diferencia del CSV, cada registro guarda también el momento de la ejecución, la huella
+ * y las dimensiones del laberinto y las celdas expandidas, y los resúmenes por algoritmo y
+ * tamaño se calculan aquí, leyendo los registros en secuencia, sin crear un AlgorithmResult
+ * por fila.
+ *
+ * Formato (big-endian): cabecera "MRLG" + versión, y luego registros
+ * <pre>
+ *   int    longitud del resto del registro
+ *   long   timestamp (ms)        long  huella del laberinto
+ *   int    filas                 int   columnas
+ *   long   tiempo (ns)           long  celdas expandidas (-1 si no se midió)
+ *   int    longitud del camino   short + bytes UTF-8: nombre del algoritmo
+ * </pre>
+ * Cada lote se añade con una sola escritura. Si la aplicación se cierra a mitad de una
+ * escritura, el registro incompleto del final se descarta al abrir el archivo.
+ */
+public class AlgorithmResultDAOLog implements AlgorithmResultDAO {
+
+    public static final String EXTENSION = ".log";
+
+    private static final int MAGIC = 0x4D524C47; // "MRLG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int FIXED_RECORD_BYTES = 8 + 8 + 4 + 4 + 8 + 8 + 4 + 2;
+
+    private final Path path;
+    private final Object fileLock = new Object();
+    private long validBytes; // Hasta dónde llegan los registros completos
+
+    /**
+     * Abre (o crea) el registro en la ruta indicada.
+     * @param filePath La ruta del archivo de registro.
+     */
+    public AlgorithmResultDAOLog(String filePath) {
+        this.path = Paths.get(filePath);
+        synchronized (fileLock) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                if (channel.size() < HEADER_BYTES) {
+                    writeHeader(channel);
+                } else {
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                    channel.read(header, 0);
+                    if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                        throw new IOException("El archivo no es un registro de resultados: " + path);
+                    }
+                }
+                validBytes = recover(channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void saveResult(AlgorithmResult result) {
+        saveResults(Collections.singletonList(result));
+    }
+
+    /**
+     * Serializa todo el lote en memoria y lo añade al final con una única escritura.
+     */
+    @Override
+    public void saveResults(Collection<AlgorithmResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * results.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (AlgorithmResult result : results) {
+                byte[] name = result.getAlgorithmName().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(FIXED_RECORD_BYTES + name.length);
+                out.writeLong(result.getTimestamp());
+                out.writeLong(result.getMazeFingerprint());
+                out.writeInt(result.getMazeRows());
+                out.writeInt(result.getMazeCols());
+                out.writeLong(result.getExecutionTime());
+                out.writeLong(result.getNodesExpanded());
+                out.writeInt(result.getPathLength());
+                out.writeShort(name.length);
+                out.write(name);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // No ocurre: se escribe en memoria
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        synchronized (fileLock) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.position(validBytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                validBytes = channel.position();
+            } catch (IOException e) {
+                System.err.println("ERROR: Fallo al guardar resultados en " + path + ": " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public List<AlgorithmResult> getAllResults() {
+        try (Stream<AlgorithmResult> results = streamResults(ResultQuery.all())) {
+            return results.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Recorre los registros en orden de escritura, aplicando filtro y paginación a medida que se leen.
+     */
+    @Override
+    public Stream<AlgorithmResult> streamResults(ResultQuery query) {
+        RecordReader reader = openReader();
+        Iterator<AlgorithmResult> iterator = new Iterator<>() {
+            private long skip = query.getOffset();
+            private long remaining = query.getLimit();
+            private AlgorithmResult next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && remaining > 0 && reader.next()) {
+                    AlgorithmResult result = reader.toResult();
+                    if (!query.matches(result)) {
+                        continue;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                        continue;
+                    }
+                    remaining--;
+                    next = result;
+                }
+                return next != null;
+            }
+
+            @Override
+            public AlgorithmResult next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                AlgorithmResult result = next;
+                next = null;
+                return result;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(reader::close);
+    }
+
+    /**
+     * Agrupa por algoritmo y tamaño leyendo solo los campos necesarios de cada registro.
+     */
+    @Override
+    public List<AlgorithmSummary> summarizeByAlgorithmAndSize() {
+        Map<Group, Group> groups = new LinkedHashMap<>();
+        Group probe = new Group();
+        try (RecordReader reader = openReader()) {
+            while (reader.next()) {
+                probe.name = reader.name;
+                probe.rows = reader.rows;
+                probe.cols = reader.cols;
+                Group group = groups.get(probe);
+                if (group == null) {
+                    group = new Group(reader.name, reader.rows, reader.cols);
+                    groups.put(group, group);
+                }
+                group.add(reader.nanos);
+            }
+        }
+        List<AlgorithmSummary> summaries = new ArrayList<>(groups.size());
+        for (Group group : groups.keySet()) {
+            summaries.add(AlgorithmSummary.of(group.name, group.rows, group.cols, group.times, group.count));
+        }
+        return summaries;
+    }
+
+    @Override
+    public void clearResults() {
+        synchronized (fileLock) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(HEADER_BYTES);
+                validBytes = HEADER_BYTES;
+            } catch (IOException e) {
+                System.err.println("ERROR: Fallo al limpiar " + path + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private RecordReader openReader() {
+        long end;
+        synchronized (fileLock) {
+            end = validBytes;
+        }
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(HEADER_BYTES);
+            return new RecordReader(channel, end - HEADER_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        channel.truncate(0);
+        channel.write(header, 0);
+    }
+
+    /**
+     * Recorre los registros para encontrar el final del último registro completo y
+     * recorta lo que haya después (una escritura interrumpida).
+     * @return La posición del final del último registro completo.
+     */
+    private static long recover(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = HEADER_BYTES;
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        while (position + Integer.BYTES <= size) {
+            length.clear();
+            channel.read(length, position);
+            int recordBytes = length.getInt(0);
+            if (recordBytes < FIXED_RECORD_BYTES || position + Integer.BYTES + recordBytes > size) {
+                break;
+            }
+            position += Integer.BYTES + recordBytes;
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+        return position;
+    }
+
+    /**
+     * Lector secuencial de registros. Los campos del registro actual quedan en atributos
+     * para que quien lo use tome solo los que necesita.
+     */
+    private static class RecordReader implements AutoCloseable {
+        private final DataInputStream in;
+        private long bytesLeft;
+        String name;
+        long timestamp;
+        long fingerprint;
+        int rows;
+        int cols;
+        long nanos;
+        long nodesExpanded;
+        int pathLength;
+        // Los nombres se repiten mucho: se reutiliza el String si los bytes coinciden con el anterior.
+        private byte[] nameBytes = new byte[64];
+        private byte[] previousName = new byte[64];
+        private int previousLength = -1;
+
+        RecordReader(FileChannel channel, long bytesLeft) {
+            this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            this.bytesLeft = bytesLeft;
+        }
+
+        /**
+         * Avanza al siguiente registro.
+         * @return false si ya no quedan registros completos.
+         */
+        boolean next() {
+            if (bytesLeft < Integer.BYTES + FIXED_RECORD_BYTES) {
+                return false;
+            }
+            try {
+                int recordBytes = in.readInt();
+                timestamp = in.readLong();
+                fingerprint = in.readLong();
+                rows = in.readInt();
+                cols = in.readInt();
+                nanos = in.readLong();
+                nodesExpanded = in.readLong();
+                pathLength = in.readInt();
+                int length = in.readUnsignedShort();
+                readName(length);
+                bytesLeft -= Integer.BYTES + recordBytes;
+                return true;
+            } catch (EOFException e) {
+                bytesLeft = 0;
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void readName(int length) throws IOException {
+            if (length > nameBytes.length) {
+                nameBytes = new byte[length];
+            }
+            in.readFully(nameBytes, 0, length);
+            if (length == previousLength && Arrays.equals(nameBytes, 0, length, previousName, 0, length)) {
+                return;
+            }
+            name = new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+            byte[] swap = previousName; // El nombre leído pasa a ser el "anterior"
+            previousName = nameBytes;
+            nameBytes = swap.length >= length ? swap : new byte[length];
+            previousLength = length;
+        }
+
+        AlgorithmResult toResult() {
+            return new AlgorithmResult(name, nanos, pathLength, timestamp, fingerprint, rows, cols, nodesExpanded);
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Grupo de tiempos de un algoritmo en laberintos de un tamaño. También sirve de clave del mapa.
+     */
+    private static class Group {
+        String name;
+        int rows;
+        int cols;
+        long[] times;
+        int count;
+
+        Group() {
+        }
+
+        Group(String name, int rows, int cols) {
+            this.name = name;
+            this.rows = rows;
+            this.cols = cols;
+            this.times = new long[16];
+        }
+
+        void add(long nanos) {
+            if (count == times.length) {
+                times = Arrays.copyOf(times, count * 2);
+            }
+            times[count++] = nanos;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Group)) {
+                return false;
+            }
+            Group other = (Group) o;
+            return rows == other.rows && cols == other.cols && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return (name.hashCode() * 31 + rows) * 31 + cols;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package dao.daoImpl;
+
+import dao.AlgorithmResultDAO;
+import dao.ResultQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import models.AlgorithmResult;
+import models.AlgorithmSummary;
+
+/**
+ * Decorador que guarda los resultados en segundo plano.
+ * saveResult solo encola el resultado; un hilo escritor los agrupa y se los pasa al DAO
+ * real con saveResults. Cuando llega un resultado, el escritor espera como mucho el
+ * intervalo de vaciado a que se junten más (o a completar un lote) y los escribe todos
+ * de una vez. Así, quien resuelve laberintos no espera a que se abra y escriba el archivo,
+ * y el archivo se abre una vez por lote en lugar de una vez por resultado.
+ * La cola es acotada: si el disco no da abasto, saveResult se bloquea hasta que haya
+ * espacio (en vez de acumular resultados sin límite en memoria).
+ * Las lecturas y el borrado vacían antes la cola, para que vean todo lo guardado.
+ */
+public class AsyncAlgorithmResultDAO implements AlgorithmResultDAO, AutoCloseable {
+
+    private final AlgorithmResultDAO delegate;
+    private final BlockingQueue<AlgorithmResult> queue;
+    private final int maxBatch;
+    private final long flushIntervalMillis;
+    private final Thread writerThread;
+
+    // Contadores para flush(): cuántos resultados se encolaron y cuántos ya se escribieron.
+    private final Object progressLock = new Object();
+    private long enqueued;
+    private long written;
+    private volatile boolean closed;
+
+    /**
+     * Crea el decorador con una cola de 8192 resultados, lotes de hasta 1024 y vaciado cada 100 ms.
+     * @param delegate El DAO que realmente escribe los resultados.
+     */
+    public AsyncAlgorithmResultDAO(AlgorithmResultDAO delegate) {
+        this(delegate, 8192, 1024, 100);
+    }
+
+    /**
+     * @param delegate El DAO que realmente escribe los resultados.
+     * @param capacity Tamaño máximo de la cola de resultados pendientes.
+     * @param maxBatch Máximo de resultados por escritura.
+     * @param flushIntervalMillis Tiempo máximo que un resultado espera en la cola antes de escribirse.
+     */
+    public AsyncAlgorithmResultDAO(AlgorithmResultDAO delegate, int capacity, int maxBatch, long flushIntervalMillis) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.writerThread = new Thread(this::writeLoop, "results-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void saveResult(AlgorithmResult result) {
+        if (closed) {
+            throw new IllegalStateException("El escritor de resultados ya está cerrado.");
+        }
+        synchronized (progressLock) {
+            enqueued++;
+        }
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markWritten(1); // No se encoló: no debe quedar pendiente para flush().
+        }
+    }
+
+    @Override
+    public void saveResults(Collection<AlgorithmResult> results) {
+        for (AlgorithmResult result : results) {
+            saveResult(result);
+        }
+    }
+
+    @Override
+    public List<AlgorithmResult> getAllResults() {
+        flush();
+        return delegate.getAllResults();
+    }
+
+    @Override
+    public Stream<AlgorithmResult> streamResults(ResultQuery query) {
+        flush();
+        return delegate.streamResults(query);
+    }
+
+    @Override
+    public long countResults(ResultQuery query) {
+        flush();
+        return delegate.countResults(query);
+    }
+
+    @Override
+    public List<AlgorithmSummary> summarizeByAlgorithmAndSize() {
+        flush();
+        return delegate.summarizeByAlgorithmAndSize();
+    }
+
+    @Override
+    public void clearResults() {
+        flush();
+        delegate.clearResults();
+    }
+
+    /**
+     * Espera a que todo lo encolado hasta ahora esté escrito en el DAO real.
+     */
+    public void flush() {
+        synchronized (progressLock) {
+            long target = enqueued;
+            while (written < target && writerThread.isAlive()) {
+                try {
+                    progressLock.wait(flushIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe lo pendiente y detiene el hilo escritor.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+        writerThread.interrupt();
+    }
+
+    private void writeLoop() {
+        List<AlgorithmResult> batch = new ArrayList<>(maxBatch);
+        while (!(closed && queue.isEmpty())) {
+            try {
+                AlgorithmResult first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Se junta el lote: lo que ya está en la cola y lo que llegue antes del plazo.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < maxBatch && !closed) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    AlgorithmResult next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // close(): se escribe lo que ya se juntó y se sigue vaciando la cola.
+            }
+            queue.drainTo(batch, maxBatch - batch.size());
+            if (!batch.isEmpty()) {
+                try {
+                    delegate.saveResults(batch);
+                } catch (RuntimeException e) {
+                    System.err.println("ERROR: Fallo al guardar " + batch.size() + " resultados: " + e.getMessage());
+                }
+                markWritten(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void markWritten(int count) {
+        synchronized (progressLock) {
+            written += count;
+            progressLock.notifyAll();
+        }
+    }
+}
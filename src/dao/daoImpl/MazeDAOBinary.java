@@ -0,0 +1,210 @@
+package dao.daoImpl;
+
+import dao.MazeDAO;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import models.PackedMaze;
+
+/**
+ * Implementación del DAO de laberintos en formato binario compacto.
+ * El archivo es una cabecera de 24 bytes seguida del arreglo de bits de PackedMaze tal cual
+ * (un bit por celda, 1 = muro), todo en little-endian:
+ * <pre>
+ *   0  "MAZB"   firma del formato
+ *   4  int      versión (1)
+ *   8  int      filas
+ *   12 int      columnas
+ *   16 int      índice de inicio (-1 si no hay)
+ *   20 int      índice de destino (-1 si no hay)
+ *   24 long[]   (filas * columnas + 63) / 64 palabras de muros
+ * </pre>
+ * La carga proyecta el archivo en memoria con FileChannel.map y copia las palabras de una
+ * sola vez, sin crear objetos Cell: un laberinto de 100 millones de celdas son unos 12 MB
+ * y se abre en milisegundos.
+ */
+public class MazeDAOBinary implements MazeDAO {
+
+    public static final String EXTENSION = ".maze";
+
+    private static final int MAGIC = 0x42_5A_41_4D; // "MAZB" leído en little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    @Override
+    public PackedMaze load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("Archivo demasiado corto para ser un laberinto: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("El archivo no tiene el formato de laberinto binario: " + path);
+            }
+            int version = buffer.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Versión de formato no soportada (" + version + "): " + path);
+            }
+            int rows = buffer.getInt(8);
+            int cols = buffer.getInt(12);
+            int start = buffer.getInt(16);
+            int end = buffer.getInt(20);
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Dimensiones inválidas " + rows + "x" + cols + " en " + path);
+            }
+            int words = PackedMaze.wordsFor(rows, cols);
+            if (fileSize < HEADER_BYTES + (long) words * Long.BYTES) {
+                throw new IOException("Archivo truncado: faltan datos de muros en " + path);
+            }
+            int size = rows * cols;
+            if (start < -1 || start >= size || end < -1 || end >= size) {
+                throw new IOException("Inicio o destino fuera del laberinto en " + path);
+            }
+
+            long[] walls = new long[words];
+            buffer.position(HEADER_BYTES);
+            buffer.asLongBuffer().get(walls); // Copia masiva, sin recorrer celda por celda
+            PackedMaze maze = new PackedMaze(rows, cols, walls);
+            maze.setStart(start);
+            maze.setEnd(end);
+            return maze;
+        }
+    }
+
+    /**
+     * Escribe la cabecera y las palabras de muros por bloques a través de un búfer directo.
+     */
+    @Override
+    public void save(PackedMaze maze, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(maze.getRows())
+                    .putInt(maze.getCols())
+                    .putInt(maze.getStart())
+                    .putInt(maze.getEnd());
+            long[] walls = maze.getWords();
+            int words = PackedMaze.wordsFor(maze.getRows(), maze.getCols());
+            for (int i = 0; i < words; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(walls[i]);
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Abre un archivo para escribir un laberinto fila por fila, sin tenerlo completo en
+     * memoria (por ejemplo, desde {@link generator.generatorImpl.EllerGenerator#generateRows}).
+     * El resultado es idéntico al de {@link #save}: los bits de las filas se van empaquetando
+     * en palabras de 64 y se escriben por bloques.
+     * @param path El archivo de destino.
+     * @param rows Número de filas que se van a escribir.
+     * @param cols Número de columnas.
+     * @param start Índice de inicio (-1 si no hay).
+     * @param end Índice de destino (-1 si no hay).
+     * @return El escritor; hay que cerrarlo para completar el archivo.
+     */
+    public RowWriter openRowWriter(Path path, int rows, int cols, int start, int end) throws IOException {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        return new RowWriter(path, rows, cols, start, end);
+    }
+
+    /**
+     * Escritor de un laberinto binario por filas. Usa un búfer fijo, así que la memoria no
+     * depende del tamaño del laberinto.
+     */
+    public static final class RowWriter implements AutoCloseable, generator.RowSink {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final int rows;
+        private final int cols;
+        private int rowsWritten;
+        private long word;  // Palabra en construcción
+        private int bit;    // Siguiente bit libre de la palabra
+
+        private RowWriter(Path path, int rows, int cols, int start, int end) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            this.rows = rows;
+            this.cols = cols;
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(rows)
+                    .putInt(cols)
+                    .putInt(start)
+                    .putInt(end);
+        }
+
+        /**
+         * Añade la siguiente fila.
+         * @param row Número de fila; deben llegar en orden.
+         * @param walls Muros de la fila (walls[col] == true si es muro), con {@code cols} posiciones.
+         */
+        @Override
+        public void acceptRow(int row, boolean[] walls) throws IOException {
+            if (row != rowsWritten || rowsWritten == rows) {
+                throw new IOException("Fila fuera de orden: se esperaba " + rowsWritten + " y llegó " + row);
+            }
+            for (int col = 0; col < cols; col++) {
+                if (walls[col]) {
+                    word |= 1L << bit;
+                }
+                if (++bit == 64) {
+                    putWord();
+                }
+            }
+            rowsWritten++;
+        }
+
+        private void putWord() throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(word);
+            word = 0;
+            bit = 0;
+        }
+
+        /**
+         * Escribe la última palabra incompleta y cierra el archivo.
+         * @throws IOException Si faltan filas: el archivo quedaría truncado.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                if (rowsWritten != rows) {
+                    throw new IOException("Se escribieron " + rowsWritten + " de " + rows + " filas.");
+                }
+                if (bit > 0) {
+                    putWord();
+                }
+                drain(channel, buffer);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
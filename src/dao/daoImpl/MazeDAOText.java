@@ -0,0 +1,120 @@
+package dao.daoImpl;
+
+import dao.MazeDAO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import models.PackedMaze;
+
+/**
+ * Implementación del DAO de laberintos en formato de texto (ASCII).
+ * Cada línea del archivo es una fila y cada carácter una celda:
+ * <ul>
+ *   <li>'#' muro,</li>
+ *   <li>'.' o ' ' celda transitable,</li>
+ *   <li>'S' inicio y 'E' destino.</li>
+ * </ul>
+ * Las líneas más cortas se completan con celdas transitables. Si el archivo no marca
+ * inicio o destino, se usan la esquina superior izquierda y la inferior derecha; si marca
+ * 'S' pero no 'E', el destino es el propio inicio (así se guarda un laberinto en el que
+ * ambos coinciden, porque la celda solo puede llevar una letra).
+ * Es un formato fácil de escribir a mano y de intercambiar con otras herramientas.
+ */
+public class MazeDAOText implements MazeDAO {
+
+    public static final char WALL = '#';
+    public static final char OPEN = '.';
+    public static final char START = 'S';
+    public static final char END = 'E';
+
+    /**
+     * Lee el archivo completo de una sola vez y lo recorre byte a byte, sin crear un String por línea.
+     */
+    @Override
+    public PackedMaze load(Path path) throws IOException {
+        byte[] data = Files.readAllBytes(path);
+
+        // Primera pasada: dimensiones (filas no vacías y la línea más larga).
+        int rows = 0;
+        int cols = 0;
+        int lineLength = 0;
+        for (int i = 0; i <= data.length; i++) {
+            byte b = i < data.length ? data[i] : (byte) '\n';
+            if (b == '\n') {
+                if (lineLength > 0) {
+                    rows++;
+                    cols = Math.max(cols, lineLength);
+                }
+                lineLength = 0;
+            } else if (b != '\r') {
+                lineLength++;
+            }
+        }
+        if (rows == 0) {
+            throw new IOException("El archivo no contiene ningún laberinto: " + path);
+        }
+
+        // Segunda pasada: muros, inicio y destino.
+        PackedMaze maze = new PackedMaze(rows, cols);
+        int row = 0;
+        int col = 0;
+        for (int i = 0; i < data.length; i++) {
+            byte b = data[i];
+            if (b == '\n') {
+                if (col > 0) {
+                    row++;
+                }
+                col = 0;
+                continue;
+            }
+            if (b == '\r') {
+                continue;
+            }
+            switch (b) {
+                case WALL: maze.setWall(row, col, true); break;
+                case START: maze.setStart(maze.index(row, col)); break;
+                case END: maze.setEnd(maze.index(row, col)); break;
+                case OPEN:
+                case ' ':
+                    break;
+                default:
+                    throw new IOException("Carácter no válido '" + (char) b + "' en la fila " + (row + 1)
+                            + ", columna " + (col + 1) + " de " + path);
+            }
+            col++;
+        }
+
+        if (maze.getEnd() < 0) {
+            maze.setEnd(maze.getStart() >= 0 ? maze.getStart() : maze.size() - 1);
+        }
+        if (maze.getStart() < 0) {
+            maze.setStart(0);
+        }
+        maze.setWall(maze.getStart(), false);
+        maze.setWall(maze.getEnd(), false);
+        return maze;
+    }
+
+    @Override
+    public void save(PackedMaze maze, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            char[] line = new char[maze.getCols()];
+            for (int r = 0; r < maze.getRows(); r++) {
+                for (int c = 0; c < line.length; c++) {
+                    int i = maze.index(r, c);
+                    if (i == maze.getStart()) {
+                        line[c] = START;
+                    } else if (i == maze.getEnd()) {
+                        line[c] = END;
+                    } else {
+                        line[c] = maze.isWall(i) ? WALL : OPEN;
+                    }
+                }
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+}
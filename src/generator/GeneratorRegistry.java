@@ -0,0 +1,54 @@
+package generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import generator.generatorImpl.*;
+
+/**
+ * Catálogo de los generadores de laberintos disponibles, por nombre, como
+ * {@link solver.SolverRegistry} para los algoritmos de búsqueda.
+ */
+public final class GeneratorRegistry {
+
+    private static final Map<String, Supplier<MazeGenerator>> GENERATORS = new LinkedHashMap<>();
+
+    static {
+        register("Backtracking Recursivo", RecursiveBacktrackerGenerator::new);
+        register("Prim", PrimGenerator::new);
+        register("Kruskal", KruskalGenerator::new);
+        register("Eller", EllerGenerator::new);
+        register("Paralelo", TiledGenerator::new);
+    }
+
+    private GeneratorRegistry() {
+    }
+
+    private static void register(String name, Supplier<MazeGenerator> factory) {
+        GENERATORS.put(name, factory);
+    }
+
+    /**
+     * Devuelve una instancia nueva del generador solicitado.
+     * @param name El nombre del generador (sin distinguir mayúsculas).
+     * @return una instancia de MazeGenerator, o null si el nombre no existe.
+     */
+    public static MazeGenerator create(String name) {
+        for (Map.Entry<String, Supplier<MazeGenerator>> entry : GENERATORS.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue().get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Los nombres de los generadores, en el orden en que aparecen en la interfaz.
+     */
+    public static List<String> getNames() {
+        return Collections.unmodifiableList(new ArrayList<>(GENERATORS.keySet()));
+    }
+}
@@ -0,0 +1,23 @@
+package generator;
+
+import models.PackedMaze;
+
+/**
+ * Contrato de los generadores de laberintos. Todos trabajan sobre una cuadrícula de
+ * "habitaciones": las celdas de fila y columna pares son transitables y se van derribando
+ * los muros entre habitaciones vecinas, de modo que el resultado es un laberinto perfecto
+ * (exactamente un camino entre dos habitaciones cualesquiera).
+ * El inicio queda en la esquina superior izquierda y el destino en la última habitación.
+ * Con la misma semilla y las mismas dimensiones se obtiene siempre el mismo laberinto.
+ */
+public interface MazeGenerator {
+
+    /**
+     * Genera un laberinto directamente en la representación compacta.
+     * @param rows Número de filas.
+     * @param cols Número de columnas.
+     * @param seed Semilla del generador aleatorio.
+     * @return El laberinto generado, con inicio y destino definidos.
+     */
+    PackedMaze generate(int rows, int cols, long seed);
+}
@@ -0,0 +1,18 @@
+package generator;
+
+import java.io.IOException;
+
+/**
+ * Recibe un laberinto fila por fila, a medida que se genera, sin que exista nunca
+ * completo en memoria (ver {@link generator.generatorImpl.EllerGenerator}).
+ */
+@FunctionalInterface
+public interface RowSink {
+
+    /**
+     * @param row Número de fila (las filas llegan en orden, empezando por 0).
+     * @param walls Muros de la fila: walls[col] == true si la celda es muro. El arreglo se
+     *              reutiliza en la siguiente fila, así que no debe guardarse.
+     */
+    void acceptRow(int row, boolean[] walls) throws IOException;
+}
@@ -0,0 +1,163 @@
+package generator.generatorImpl;
+
+import generator.MazeGenerator;
+import generator.RowSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+import models.PackedMaze;
+
+/**
+ * Generador por el algoritmo de Eller: construye el laberinto fila por fila recordando solo
+ * a qué conjunto (componente conectada) pertenece cada habitación de la fila actual.
+ * En cada fila une al azar habitaciones vecinas de conjuntos distintos y baja al menos un
+ * pasaje por conjunto; en la última fila une todo lo que quede separado.
+ * La memoria es O(columnas) sin importar cuántas filas tenga el laberinto, por lo que con
+ * {@link #generateRows} se pueden escribir laberintos de millones de filas directamente a
+ * disco (ver {@link dao.daoImpl.MazeDAOBinary#openRowWriter}).
+ */
+public class EllerGenerator implements MazeGenerator {
+
+    @Override
+    public PackedMaze generate(int rows, int cols, long seed) {
+        PackedMaze maze = new PackedMaze(rows, cols);
+        try {
+            generateRows(rows, cols, seed, (row, walls) -> {
+                for (int col = 0; col < cols; col++) {
+                    if (walls[col]) {
+                        maze.setWall(row, col, true);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // No ocurre: este destino es memoria
+        }
+        return RoomGrid.withEndpoints(maze);
+    }
+
+    /**
+     * Genera el laberinto entregando cada fila de celdas al destino en cuanto está lista.
+     * El laberinto es el mismo que devuelve {@link #generate} con la misma semilla; el inicio
+     * es la celda 0 y el destino la última habitación (fila y columna pares más altas).
+     * @param rows Número de filas.
+     * @param cols Número de columnas.
+     * @param seed Semilla del generador aleatorio.
+     * @param sink Recibe las filas en orden.
+     * @throws IOException Si el destino falla al recibir una fila.
+     */
+    public void generateRows(int rows, int cols, long seed, RowSink sink) throws IOException {
+        int roomRows = RoomGrid.rooms(rows);
+        int roomCols = RoomGrid.rooms(cols);
+        RandomBits random = new RandomBits(seed);
+
+        int[] set = new int[roomCols];           // Conjunto de cada habitación de la fila (ids < roomCols)
+        int[] parent = new int[roomCols];        // Union-find sobre los ids, solo durante una fila
+        boolean[] down = new boolean[roomCols];  // Habitaciones que abren paso a la fila siguiente
+        boolean[] setGoesDown = new boolean[roomCols];
+        int[] lastOfSet = new int[roomCols];
+        int[] relabel = new int[roomCols];
+        boolean[] roomRow = new boolean[cols];
+        boolean[] wallRow = new boolean[cols];
+        for (int c = 0; c < roomCols; c++) {
+            set[c] = c;
+        }
+
+        for (int r = 0; r < roomRows; r++) {
+            boolean lastRow = r == roomRows - 1;
+
+            // 1. Uniones horizontales: en la última fila se une todo lo que siga separado.
+            Arrays.fill(roomRow, true);
+            for (int c = 0; c < roomCols; c++) {
+                roomRow[c * 2] = false;
+                parent[c] = c;
+            }
+            for (int c = 0; c + 1 < roomCols; c++) {
+                int a = RoomGrid.find(parent, set[c]);
+                int b = RoomGrid.find(parent, set[c + 1]);
+                if (a == b) {
+                    continue; // Ya conectadas: unirlas crearía un ciclo.
+                }
+                if (random.next() || lastRow) {
+                    parent[b] = a;
+                    roomRow[c * 2 + 1] = false;
+                }
+            }
+            sink.acceptRow(r * 2, roomRow);
+            if (lastRow) {
+                break;
+            }
+
+            // 2. Pasajes hacia abajo: al azar, pero al menos uno por conjunto.
+            Arrays.fill(setGoesDown, false);
+            for (int c = 0; c < roomCols; c++) {
+                set[c] = RoomGrid.find(parent, set[c]);
+                down[c] = random.next();
+                setGoesDown[set[c]] |= down[c];
+                lastOfSet[set[c]] = c;
+            }
+            for (int c = 0; c < roomCols; c++) {
+                if (!setGoesDown[set[c]]) {
+                    down[lastOfSet[set[c]]] = true;
+                    setGoesDown[set[c]] = true;
+                }
+            }
+            Arrays.fill(wallRow, true);
+            for (int c = 0; c < roomCols; c++) {
+                if (down[c]) {
+                    wallRow[c * 2] = false;
+                }
+            }
+            sink.acceptRow(r * 2 + 1, wallRow);
+
+            // 3. Conjuntos de la fila siguiente: las que bajan conservan el suyo (renumerado
+            //    para que los ids sigan por debajo de roomCols); las demás empiezan uno nuevo.
+            Arrays.fill(relabel, -1);
+            int next = 0;
+            for (int c = 0; c < roomCols; c++) {
+                if (down[c]) {
+                    if (relabel[set[c]] < 0) {
+                        relabel[set[c]] = next++;
+                    }
+                    set[c] = relabel[set[c]];
+                }
+            }
+            for (int c = 0; c < roomCols; c++) {
+                if (!down[c]) {
+                    set[c] = next++;
+                }
+            }
+        }
+
+        // Con un número par de filas, la última queda entera como muro.
+        if (rows % 2 == 0) {
+            Arrays.fill(wallRow, true);
+            sink.acceptRow(rows - 1, wallRow);
+        }
+    }
+
+    /**
+     * Decisiones aleatorias de sí/no sacadas de a un bit: un nextLong() alcanza para 64,
+     * lo que en laberintos de miles de millones de celdas ahorra la mayor parte del costo.
+     */
+    private static final class RandomBits {
+        private final Random random;
+        private long bits;
+        private int remaining;
+
+        RandomBits(long seed) {
+            this.random = new Random(seed);
+        }
+
+        boolean next() {
+            if (remaining == 0) {
+                bits = random.nextLong();
+                remaining = 64;
+            }
+            boolean bit = (bits & 1) != 0;
+            bits >>>= 1;
+            remaining--;
+            return bit;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package generator.generatorImpl;
+
+import generator.MazeGenerator;
+import java.util.Random;
+import models.PackedMaze;
+
+/**
+ * Generador por el algoritmo de Kruskal aleatorio: recorre todos los muros entre
+ * habitaciones en orden aleatorio y derriba cada uno si separa dos habitaciones que aún
+ * no están conectadas. La conectividad se lleva con un union-find (unión por tamaño y
+ * compresión de caminos), así que cada consulta es prácticamente O(1).
+ */
+public class KruskalGenerator implements MazeGenerator {
+
+    @Override
+    public PackedMaze generate(int rows, int cols, long seed) {
+        PackedMaze maze = RoomGrid.solid(rows, cols);
+        int roomRows = RoomGrid.rooms(rows);
+        int roomCols = RoomGrid.rooms(cols);
+        int rooms = roomRows * roomCols;
+        Random random = new Random(seed);
+
+        // Cada muro candidato se codifica como habitación * 2 + dirección (0 = derecha, 1 = abajo).
+        int[] edges = new int[rooms * 2];
+        int edgeCount = 0;
+        for (int room = 0; room < rooms; room++) {
+            RoomGrid.openRoom(maze, room / roomCols, room % roomCols);
+            if (room % roomCols + 1 < roomCols) {
+                edges[edgeCount++] = room * 2;
+            }
+            if (room / roomCols + 1 < roomRows) {
+                edges[edgeCount++] = room * 2 + 1;
+            }
+        }
+        RoomGrid.shuffle(edges, edgeCount, random);
+
+        int[] parent = new int[rooms];
+        int[] size = new int[rooms];
+        for (int i = 0; i < rooms; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        int joined = 0;
+        for (int i = 0; i < edgeCount && joined < rooms - 1; i++) {
+            int room = edges[i] >>> 1;
+            int other = (edges[i] & 1) == 0 ? room + 1 : room + roomCols;
+            int a = RoomGrid.find(parent, room);
+            int b = RoomGrid.find(parent, other);
+            if (a == b) {
+                continue; // Ya conectadas: derribar este muro crearía un ciclo.
+            }
+            if (size[a] < size[b]) {
+                int tmp = a;
+                a = b;
+                b = tmp;
+            }
+            parent[b] = a;
+            size[a] += size[b];
+            joined++;
+            RoomGrid.openBetween(maze, room / roomCols, room % roomCols, other / roomCols, other % roomCols);
+        }
+        return RoomGrid.withEndpoints(maze);
+    }
+}
@@ -0,0 +1,82 @@
+package generator.generatorImpl;
+
+import generator.MazeGenerator;
+import java.util.Random;
+import models.PackedMaze;
+
+/**
+ * Generador por el algoritmo de Prim aleatorio: el laberinto crece desde la primera
+ * habitación uniendo cada vez una habitación de la frontera, elegida al azar, con una
+ * vecina que ya forma parte del laberinto. Produce muchas ramas cortas.
+ * La frontera es un arreglo del que se saca un elemento al azar en O(1) (se intercambia
+ * con el último), así que el costo total es lineal en el número de habitaciones.
+ */
+public class PrimGenerator implements MazeGenerator {
+
+    private static final byte OUTSIDE = 0;
+    private static final byte FRONTIER = 1;
+    private static final byte INSIDE = 2;
+
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    @Override
+    public PackedMaze generate(int rows, int cols, long seed) {
+        PackedMaze maze = RoomGrid.solid(rows, cols);
+        int roomRows = RoomGrid.rooms(rows);
+        int roomCols = RoomGrid.rooms(cols);
+        byte[] state = new byte[roomRows * roomCols];
+        int[] frontier = new int[roomRows * roomCols];
+        int frontierSize = 0;
+        int[] inside = new int[4]; // Vecinas ya dentro del laberinto de la habitación elegida
+        Random random = new Random(seed);
+
+        state[0] = INSIDE;
+        RoomGrid.openRoom(maze, 0, 0);
+        frontierSize = addNeighbors(0, roomRows, roomCols, state, frontier, frontierSize);
+        while (frontierSize > 0) {
+            int k = random.nextInt(frontierSize);
+            int room = frontier[k];
+            frontier[k] = frontier[--frontierSize];
+            int rr = room / roomCols;
+            int rc = room % roomCols;
+
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nr = rr + DR[d];
+                int nc = rc + DC[d];
+                if (nr >= 0 && nc >= 0 && nr < roomRows && nc < roomCols && state[nr * roomCols + nc] == INSIDE) {
+                    inside[count++] = nr * roomCols + nc;
+                }
+            }
+            int target = inside[random.nextInt(count)];
+            RoomGrid.openBetween(maze, rr, rc, target / roomCols, target % roomCols);
+            RoomGrid.openRoom(maze, rr, rc);
+            state[room] = INSIDE;
+            frontierSize = addNeighbors(room, roomRows, roomCols, state, frontier, frontierSize);
+        }
+        return RoomGrid.withEndpoints(maze);
+    }
+
+    /**
+     * Añade a la frontera las vecinas de la habitación que todavía no están en ella.
+     * @return El nuevo tamaño de la frontera.
+     */
+    private static int addNeighbors(int room, int roomRows, int roomCols, byte[] state, int[] frontier, int size) {
+        int rr = room / roomCols;
+        int rc = room % roomCols;
+        for (int d = 0; d < 4; d++) {
+            int nr = rr + DR[d];
+            int nc = rc + DC[d];
+            if (nr < 0 || nc < 0 || nr >= roomRows || nc >= roomCols) {
+                continue;
+            }
+            int neighbor = nr * roomCols + nc;
+            if (state[neighbor] == OUTSIDE) {
+                state[neighbor] = FRONTIER;
+                frontier[size++] = neighbor;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,57 @@
+package generator.generatorImpl;
+
+import generator.MazeGenerator;
+import java.util.Random;
+import models.PackedMaze;
+
+/**
+ * Generador por backtracking recursivo (búsqueda en profundidad aleatoria): avanza a una
+ * habitación vecina sin visitar mientras puede y retrocede cuando se queda sin salida.
+ * Produce pasillos largos y pocas bifurcaciones. La recursión se hace con una pila explícita
+ * de índices, así que no hay riesgo de desbordar la pila de Java en laberintos grandes.
+ */
+public class RecursiveBacktrackerGenerator implements MazeGenerator {
+
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    @Override
+    public PackedMaze generate(int rows, int cols, long seed) {
+        PackedMaze maze = RoomGrid.solid(rows, cols);
+        int roomRows = RoomGrid.rooms(rows);
+        int roomCols = RoomGrid.rooms(cols);
+        boolean[] visited = new boolean[roomRows * roomCols];
+        int[] stack = new int[roomRows * roomCols];
+        int depth = 0;
+        Random random = new Random(seed);
+        int[] order = {0, 1, 2, 3};
+
+        visited[0] = true;
+        stack[depth++] = 0;
+        RoomGrid.openRoom(maze, 0, 0);
+        while (depth > 0) {
+            int room = stack[depth - 1];
+            int rr = room / roomCols;
+            int rc = room % roomCols;
+            RoomGrid.shuffle(order, order.length, random);
+            boolean advanced = false;
+            for (int d : order) {
+                int nr = rr + DR[d];
+                int nc = rc + DC[d];
+                if (nr < 0 || nc < 0 || nr >= roomRows || nc >= roomCols || visited[nr * roomCols + nc]) {
+                    continue;
+                }
+                visited[nr * roomCols + nc] = true;
+                RoomGrid.openBetween(maze, rr, rc, nr, nc);
+                RoomGrid.openRoom(maze, nr, nc);
+                stack[depth++] = nr * roomCols + nc;
+                advanced = true;
+                break;
+            }
+            if (!advanced) {
+                depth--; // Sin vecinas libres: se retrocede.
+            }
+        }
+        return RoomGrid.withEndpoints(maze);
+    }
+}
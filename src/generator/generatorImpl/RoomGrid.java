@@ -0,0 +1,79 @@
+package generator.generatorImpl;
+
+import java.util.Arrays;
+import java.util.Random;
+import models.PackedMaze;
+
+/**
+ * Operaciones comunes de los generadores sobre la cuadrícula de habitaciones: la habitación
+ * (r, c) es la celda (2r, 2c) y el muro entre dos habitaciones vecinas es la celda que
+ * queda en medio. Con dimensiones pares, la última fila o columna queda entera como muro.
+ */
+final class RoomGrid {
+
+    private RoomGrid() {
+    }
+
+    /**
+     * @return Cuántas habitaciones caben en una dimensión de la cuadrícula.
+     */
+    static int rooms(int cells) {
+        return (cells + 1) / 2;
+    }
+
+    /**
+     * Crea un laberinto con todas las celdas como muro. Los bits sobrantes de la última
+     * palabra quedan a 0, como si se hubiera marcado celda por celda.
+     */
+    static PackedMaze solid(int rows, int cols) {
+        long[] words = new long[PackedMaze.wordsFor(rows, cols)];
+        Arrays.fill(words, -1L);
+        int used = (int) (((long) rows * cols) & 63);
+        if (used != 0) {
+            words[words.length - 1] = (1L << used) - 1;
+        }
+        return new PackedMaze(rows, cols, words);
+    }
+
+    static void openRoom(PackedMaze maze, int roomRow, int roomCol) {
+        maze.setWall(roomRow * 2, roomCol * 2, false);
+    }
+
+    /**
+     * Derriba el muro entre dos habitaciones vecinas (la celda intermedia).
+     */
+    static void openBetween(PackedMaze maze, int roomRow, int roomCol, int otherRow, int otherCol) {
+        maze.setWall(roomRow + otherRow, roomCol + otherCol, false);
+    }
+
+    /**
+     * Pone el inicio en la primera habitación y el destino en la última.
+     */
+    static PackedMaze withEndpoints(PackedMaze maze) {
+        int lastRow = (rooms(maze.getRows()) - 1) * 2;
+        int lastCol = (rooms(maze.getCols()) - 1) * 2;
+        maze.setStart(0);
+        maze.setEnd(maze.index(lastRow, lastCol));
+        return maze;
+    }
+
+    /**
+     * Raíz del conjunto de x en un union-find, acortando el camino a la mitad de paso.
+     */
+    static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    static void shuffle(int[] values, int length, Random random) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
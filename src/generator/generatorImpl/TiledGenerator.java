@@ -0,0 +1,216 @@
+package generator.generatorImpl;
+
+import generator.MazeGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import models.PackedMaze;
+
+/**
+ * Generador paralelo para cuadrículas muy grandes. Divide las habitaciones en bloques
+ * cuadrados, genera cada bloque como un laberinto perfecto independiente con otro
+ * generador (en paralelo sobre un {@link ForkJoinPool}) y después los cose: entre los
+ * bloques se elige un árbol de expansión aleatorio y por cada arista del árbol se abre
+ * una sola puerta en el muro que los separa. Árbol de árboles unidos por una arista
+ * cada uno: el resultado sigue siendo perfecto y conexo.
+ *
+ * Los bloques se generan en laberintos propios y luego se copian al laberinto final por
+ * palabras completas de 64 bits, de modo que dos tareas nunca escriben la misma palabra.
+ */
+public class TiledGenerator implements MazeGenerator {
+
+    public static final int DEFAULT_TILE_ROOMS = 256;
+
+    // Palabras del laberinto final que copia cada tarea como mínimo.
+    private static final int COPY_CHUNK_WORDS = 1 << 14;
+
+    private final MazeGenerator tileGenerator;
+    private final int tileRooms;
+    private final ForkJoinPool pool;
+
+    public TiledGenerator() {
+        this(new RecursiveBacktrackerGenerator(), DEFAULT_TILE_ROOMS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param tileGenerator Generador usado dentro de cada bloque (debe poder usarse desde varios hilos).
+     * @param tileRooms Habitaciones por lado de cada bloque.
+     * @param pool Pool en el que se generan los bloques.
+     */
+    public TiledGenerator(MazeGenerator tileGenerator, int tileRooms, ForkJoinPool pool) {
+        if (tileRooms < 1) {
+            throw new IllegalArgumentException("Tamaño de bloque inválido: " + tileRooms);
+        }
+        this.tileGenerator = tileGenerator;
+        this.tileRooms = tileRooms;
+        this.pool = pool;
+    }
+
+    @Override
+    public PackedMaze generate(int rows, int cols, long seed) {
+        int roomRows = RoomGrid.rooms(rows);
+        int roomCols = RoomGrid.rooms(cols);
+        int tileRows = (roomRows + tileRooms - 1) / tileRooms;
+        int tileCols = (roomCols + tileRooms - 1) / tileRooms;
+        int tileCount = tileRows * tileCols;
+
+        // Las semillas se sacan en orden fijo para que el resultado no dependa del reparto entre hilos.
+        Random random = new Random(seed);
+        long[] tileSeeds = new long[tileCount];
+        for (int i = 0; i < tileCount; i++) {
+            tileSeeds[i] = random.nextLong();
+        }
+
+        PackedMaze[] tiles = new PackedMaze[tileCount];
+        List<RecursiveAction> tasks = new ArrayList<>(tileCount);
+        for (int i = 0; i < tileCount; i++) {
+            final int tile = i;
+            int tileRoomRows = Math.min(tileRooms, roomRows - tile / tileCols * tileRooms);
+            int tileRoomCols = Math.min(tileRooms, roomCols - tile % tileCols * tileRooms);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    tiles[tile] = tileGenerator.generate(tileRoomRows * 2 - 1, tileRoomCols * 2 - 1, tileSeeds[tile]);
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        PackedMaze maze = new PackedMaze(rows, cols);
+        pool.invoke(new CopyTask(maze, tiles, tileCols, 0, maze.getWords().length));
+        stitch(maze, tileRows, tileCols, roomRows, roomCols, random);
+        return RoomGrid.withEndpoints(maze);
+    }
+
+    /**
+     * Abre una puerta por cada arista de un árbol de expansión aleatorio entre bloques
+     * (Kruskal sobre la cuadrícula de bloques).
+     */
+    private void stitch(PackedMaze maze, int tileRows, int tileCols, int roomRows, int roomCols, Random random) {
+        int tileCount = tileRows * tileCols;
+        int[] edges = new int[tileCount * 2];
+        int edgeCount = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            if (tile % tileCols + 1 < tileCols) {
+                edges[edgeCount++] = tile * 2;
+            }
+            if (tile / tileCols + 1 < tileRows) {
+                edges[edgeCount++] = tile * 2 + 1;
+            }
+        }
+        RoomGrid.shuffle(edges, edgeCount, random);
+
+        int[] parent = new int[tileCount];
+        for (int i = 0; i < tileCount; i++) {
+            parent[i] = i;
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            int tile = edges[i] >>> 1;
+            boolean down = (edges[i] & 1) != 0;
+            int a = RoomGrid.find(parent, tile);
+            int b = RoomGrid.find(parent, down ? tile + tileCols : tile + 1);
+            if (a == b) {
+                continue;
+            }
+            parent[b] = a;
+
+            // Primera habitación del bloque y cuántas tiene a lo largo del borde compartido.
+            int firstRow = tile / tileCols * tileRooms;
+            int firstCol = tile % tileCols * tileRooms;
+            if (down) {
+                int roomRow = firstRow + tileRooms - 1;
+                int roomCol = firstCol + random.nextInt(Math.min(tileRooms, roomCols - firstCol));
+                RoomGrid.openBetween(maze, roomRow, roomCol, roomRow + 1, roomCol);
+            } else {
+                int roomRow = firstRow + random.nextInt(Math.min(tileRooms, roomRows - firstRow));
+                int roomCol = firstCol + tileRooms - 1;
+                RoomGrid.openBetween(maze, roomRow, roomCol, roomRow, roomCol + 1);
+            }
+        }
+    }
+
+    /**
+     * Copia los bloques al laberinto final. Cada tarea se queda con un rango de palabras y
+     * lo reparte en dos mitades mientras sea grande; las celdas entre bloques y las que
+     * sobran con dimensiones pares quedan como muro.
+     */
+    private final class CopyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final PackedMaze maze;
+        private final PackedMaze[] tiles;
+        private final int tileCols;
+        private final int fromWord;
+        private final int toWord;
+
+        CopyTask(PackedMaze maze, PackedMaze[] tiles, int tileCols, int fromWord, int toWord) {
+            this.maze = maze;
+            this.tiles = tiles;
+            this.tileCols = tileCols;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord > COPY_CHUNK_WORDS) {
+                int middle = (fromWord + toWord) >>> 1;
+                invokeAll(new CopyTask(maze, tiles, tileCols, fromWord, middle),
+                        new CopyTask(maze, tiles, tileCols, middle, toWord));
+                return;
+            }
+            long[] words = maze.getWords();
+            int cols = maze.getCols();
+            int size = maze.size();
+            int span = tileRooms * 2; // Celdas por bloque más el muro que lo separa del siguiente.
+            for (int w = fromWord; w < toWord; w++) {
+                int wordStart = w * 64;
+                int wordEnd = Math.min(wordStart + 64, size);
+                long word = 0;
+                // Se recorre la palabra por tramos que no cruzan ni el final de fila ni el de un bloque.
+                for (int pos = wordStart; pos < wordEnd; ) {
+                    int row = pos / cols;
+                    int col = pos - row * cols;
+                    int localRow = row % span;
+                    int localCol = col % span;
+                    int run = Math.min(wordEnd - pos, Math.min(cols - col, span - localCol));
+                    PackedMaze tile = tiles[row / span * tileCols + col / span];
+                    int copied = localRow < tile.getRows() ? Math.max(0, Math.min(run, tile.getCols() - localCol)) : 0;
+                    int offset = pos - wordStart;
+                    if (copied > 0) {
+                        word |= readBits(tile.getWords(), localRow * tile.getCols() + localCol, copied) << offset;
+                    }
+                    if (copied < run) {
+                        word |= ones(run - copied) << (offset + copied);
+                    }
+                    pos += run;
+                }
+                words[w] = word;
+            }
+        }
+    }
+
+    /**
+     * Lee {@code count} bits (1 a 64) a partir de la posición {@code from}.
+     */
+    private static long readBits(long[] words, int from, int count) {
+        int word = from >>> 6;
+        int shift = from & 63;
+        long bits = words[word] >>> shift;
+        if (shift + count > 64) {
+            bits |= words[word + 1] << (64 - shift);
+        }
+        return bits & ones(count);
+    }
+
+    private static long ones(int count) {
+        return count == 64 ? -1L : (1L << count) - 1;
+    }
+}
@@ -5,13 +5,19 @@ import java.util.List;
 
 /**
  * Clase modelo para encapsular el resultado de la ejecución de un algoritmo.
- * Almacena el nombre del algoritmo, el tiempo de ejecución y la ruta encontrada.
+ * Almacena el nombre del algoritmo, el tiempo de ejecución y la ruta encontrada, junto con
+ * el momento de la ejecución y la identidad del laberinto (huella y dimensiones) cuando se conocen.
  */
 public class AlgorithmResult {
     private String algorithmName;
     private long executionTime; // En nanosegundos para mayor precisión
     private List<Cell> pathCells; // La lista real de celdas del camino (usada para la visualización)
     private int pathLength;     // La longitud del camino (número de celdas), almacenada explícitamente
+    private long timestamp;     // Momento de la ejecución (milisegundos desde 1970)
+    private long mazeFingerprint; // Huella del laberinto resuelto (ver PackedMaze.fingerprint), 0 si no se conoce
+    private int mazeRows;       // Dimensiones del laberinto, 0 si no se conocen
+    private int mazeCols;
+    private SearchStats stats;  // Contadores de la búsqueda, null si no se midieron (por ejemplo, en paso a paso)
 
     // Constructor principal, usado cuando se resuelve el laberinto y se tiene la lista de celdas.
     public AlgorithmResult(String algorithmName, long executionTime, List<Cell> pathCells) {
@@ -19,6 +25,7 @@ public class AlgorithmResult {
         this.executionTime = executionTime;
         this.pathCells = pathCells;
         this.pathLength = (pathCells != null) ? pathCells.size() : 0;
+        this.timestamp = System.currentTimeMillis();
     }
 
     // Nuevo constructor, usado al cargar resultados del DAO (cuando solo se tiene la longitud, no las celdas individuales).
@@ -27,6 +34,19 @@ public class AlgorithmResult {
         this.executionTime = executionTime;
         this.pathLength = pathLength;
         this.pathCells = Collections.emptyList(); // La lista de celdas no se recupera del CSV
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Constructor completo, usado por los almacenes que guardan también la identidad del laberinto.
+    public AlgorithmResult(String algorithmName, long executionTime, int pathLength, long timestamp,
+                           long mazeFingerprint, int mazeRows, int mazeCols, long nodesExpanded) {
+        this(algorithmName, executionTime, pathLength);
+        this.timestamp = timestamp;
+        this.mazeFingerprint = mazeFingerprint;
+        this.mazeRows = mazeRows;
+        this.mazeCols = mazeCols;
+        // De las estadísticas solo se conocen las celdas expandidas; el resto queda como desconocido (-1).
+        this.stats = nodesExpanded < 0 ? null : new SearchStats(nodesExpanded, -1, -1, -1, -1);
     }
 
     // Getters
@@ -48,4 +68,47 @@ public class AlgorithmResult {
     public int getPathLength() {
         return pathLength;
     }
-}
\ No newline at end of file
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getMazeFingerprint() {
+        return mazeFingerprint;
+    }
+
+    public int getMazeRows() {
+        return mazeRows;
+    }
+
+    public int getMazeCols() {
+        return mazeCols;
+    }
+
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @return Las celdas expandidas durante la búsqueda, o -1 si no se midieron.
+     */
+    public long getNodesExpanded() {
+        return stats == null ? -1 : stats.getNodesExpanded();
+    }
+
+    // Setters
+
+    /**
+     * Asocia el resultado al laberinto resuelto.
+     * @param maze El laberinto (se guardan su huella y sus dimensiones).
+     */
+    public void setMaze(PackedMaze maze) {
+        this.mazeFingerprint = maze.fingerprint();
+        this.mazeRows = maze.getRows();
+        this.mazeCols = maze.getCols();
+    }
+
+    public void setStats(SearchStats stats) {
+        this.stats = stats;
+    }
+}
@@ -0,0 +1,74 @@
+package models;
+
+import java.util.Arrays;
+
+/**
+ * Resumen estadístico de los tiempos de un algoritmo sobre laberintos de un mismo tamaño:
+ * número de ejecuciones, tiempo mínimo, mediana y percentil 99.
+ */
+public class AlgorithmSummary {
+    private final String algorithmName;
+    private final int mazeRows;
+    private final int mazeCols;
+    private final int count;
+    private final long minTime;    // En nanosegundos
+    private final long medianTime;
+    private final long p99Time;
+
+    public AlgorithmSummary(String algorithmName, int mazeRows, int mazeCols, int count,
+                            long minTime, long medianTime, long p99Time) {
+        this.algorithmName = algorithmName;
+        this.mazeRows = mazeRows;
+        this.mazeCols = mazeCols;
+        this.count = count;
+        this.minTime = minTime;
+        this.medianTime = medianTime;
+        this.p99Time = p99Time;
+    }
+
+    /**
+     * Calcula el resumen a partir de los tiempos de un grupo. Los percentiles son por rango
+     * más cercano (siempre un tiempo que realmente se midió).
+     * @param times Los tiempos en nanosegundos; se ordenan las primeras {@code count} posiciones.
+     * @param count Cuántas posiciones de {@code times} son válidas (al menos 1).
+     */
+    public static AlgorithmSummary of(String algorithmName, int mazeRows, int mazeCols, long[] times, int count) {
+        Arrays.sort(times, 0, count);
+        return new AlgorithmSummary(algorithmName, mazeRows, mazeCols, count,
+                times[0], percentile(times, count, 0.50), percentile(times, count, 0.99));
+    }
+
+    private static long percentile(long[] sorted, int count, double p) {
+        int index = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    // Getters
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    public int getMazeRows() {
+        return mazeRows;
+    }
+
+    public int getMazeCols() {
+        return mazeCols;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getMinTime() {
+        return minTime;
+    }
+
+    public long getMedianTime() {
+        return medianTime;
+    }
+
+    public long getP99Time() {
+        return p99Time;
+    }
+}
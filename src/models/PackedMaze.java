@@ -0,0 +1,231 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representación compacta del laberinto para los algoritmos de búsqueda.
+ * En lugar de una matriz de objetos Cell, guarda un solo bit por celda (1 = muro)
+ * dentro de un arreglo plano de long, indexado como fila * columnas + columna.
+ * Un laberinto de 4000x4000 ocupa así unos 2 MB en vez de cientos de MB de objetos.
+ */
+public class PackedMaze {
+    private final int rows;
+    private final int cols;
+    private final long[] walls; // Bit i encendido = la celda con índice i es un muro
+    private int start = -1;     // Índice de la celda de inicio (-1 si no está definida)
+    private int end = -1;       // Índice de la celda de destino (-1 si no está definida)
+
+    /**
+     * Crea un laberinto vacío (todas las celdas transitables).
+     * @param rows Número de filas.
+     * @param cols Número de columnas.
+     */
+    public PackedMaze(int rows, int cols) {
+        this(rows, cols, new long[wordsFor(rows, cols)]);
+    }
+
+    /**
+     * Crea un laberinto a partir de un arreglo de bits ya existente (usado por los cargadores de archivos).
+     * @param rows Número de filas.
+     * @param cols Número de columnas.
+     * @param walls Arreglo de bits de muros, con al menos (rows * cols + 63) / 64 elementos.
+     */
+    public PackedMaze(int rows, int cols, long[] walls) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        if (walls.length < wordsFor(rows, cols)) {
+            throw new IllegalArgumentException("El arreglo de muros es demasiado pequeño para " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = walls;
+    }
+
+    /**
+     * Calcula cuántos long se necesitan para guardar un bit por celda.
+     */
+    public static int wordsFor(int rows, int cols) {
+        return (int) (((long) rows * cols + 63) >>> 6);
+    }
+
+    // Getters
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return El número total de celdas (filas * columnas).
+     */
+    public int size() {
+        return rows * cols;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Devuelve el arreglo de bits interno. No se copia: está pensado para los
+     * cargadores/escritores de archivos que necesitan volcarlo directamente.
+     */
+    public long[] getWords() {
+        return walls;
+    }
+
+    // Setters
+    public void setStart(int start) {
+        this.start = start;
+    }
+
+    public void setEnd(int end) {
+        this.end = end;
+    }
+
+    // --- Conversión entre (fila, columna) e índice lineal ---
+
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    public int index(Cell cell) {
+        return index(cell.getRow(), cell.getCol());
+    }
+
+    public int row(int index) {
+        return index / cols;
+    }
+
+    public int col(int index) {
+        return index % cols;
+    }
+
+    // --- Consulta y modificación de muros ---
+
+    public boolean isWall(int index) {
+        return (walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public boolean isWall(int row, int col) {
+        return isWall(index(row, col));
+    }
+
+    /**
+     * Indica si la celda está dentro de los límites y no es un muro.
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && !isWall(index(row, col));
+    }
+
+    public void setWall(int index, boolean wall) {
+        if (wall) {
+            walls[index >>> 6] |= 1L << index;
+        } else {
+            walls[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    public void setWall(int row, int col, boolean wall) {
+        setWall(index(row, col), wall);
+    }
+
+    /**
+     * Calcula una huella de 64 bits del laberinto (dimensiones, muros, inicio y destino).
+     * Dos laberintos iguales tienen siempre la misma huella, lo que permite agrupar los
+     * resultados guardados por laberinto sin guardar el laberinto completo.
+     * @return La huella del laberinto.
+     */
+    public long fingerprint() {
+        long hash = mix(((long) rows << 32) | (cols & 0xFFFFFFFFL));
+        hash = mix(hash ^ (((long) start << 32) | (end & 0xFFFFFFFFL)));
+        int words = wordsFor(rows, cols);
+        for (int i = 0; i < words; i++) {
+            hash = mix(hash * 0x9E3779B97F4A7C15L ^ walls[i]);
+        }
+        return hash;
+    }
+
+    // Mezcla final de MurmurHash3: cada bit de entrada afecta a todos los de salida.
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // --- Adaptadores desde/hacia Cell[][] ---
+
+    /**
+     * Construye la versión compacta de una matriz de celdas. Solo se leen los estados:
+     * WALL se guarda como muro y START/END se recuerdan como índices.
+     * @param grid La matriz 2D de celdas.
+     * @return Un PackedMaze equivalente.
+     */
+    public static PackedMaze fromCells(Cell[][] grid) {
+        PackedMaze maze = new PackedMaze(grid.length, grid[0].length);
+        for (int r = 0; r < maze.rows; r++) {
+            for (int c = 0; c < maze.cols; c++) {
+                CellState state = grid[r][c].getState();
+                if (state == CellState.WALL) {
+                    maze.setWall(r, c, true);
+                } else if (state == CellState.START) {
+                    maze.start = maze.index(r, c);
+                } else if (state == CellState.END) {
+                    maze.end = maze.index(r, c);
+                }
+            }
+        }
+        return maze;
+    }
+
+    /**
+     * Materializa el laberinto como matriz de celdas (para la interfaz gráfica).
+     * @return Una nueva matriz Cell[][] con estados PATH, WALL, START y END.
+     */
+    public Cell[][] toCells() {
+        Cell[][] grid = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = index(r, c);
+                CellState state = isWall(i) ? CellState.WALL : CellState.PATH;
+                if (i == start) {
+                    state = CellState.START;
+                } else if (i == end) {
+                    state = CellState.END;
+                }
+                grid[r][c] = new Cell(r, c, state);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Convierte un camino de índices lineales en la lista de celdas correspondiente.
+     * @param path Los índices del camino, en orden de inicio a fin.
+     * @param grid La matriz de celdas de la que se toman las instancias.
+     * @return La lista de celdas del camino (vacía si no hay camino).
+     */
+    public static List<Cell> toCellPath(int[] path, Cell[][] grid) {
+        if (path.length == 0) {
+            return Collections.emptyList();
+        }
+        int cols = grid[0].length;
+        List<Cell> cells = new ArrayList<>(path.length);
+        for (int index : path) {
+            cells.add(grid[index / cols][index % cols]);
+        }
+        return cells;
+    }
+}
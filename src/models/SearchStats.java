@@ -0,0 +1,105 @@
+package models;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Contadores de una búsqueda, para entender por qué un algoritmo tarda lo que tarda:
+ * si expande demasiadas celdas o si cada expansión es cara.
+ * <ul>
+ *   <li>nodesExpanded: celdas sacadas de la frontera y procesadas.</li>
+ *   <li>nodesEnqueued: celdas añadidas a la frontera (cola, montículo o pila).</li>
+ *   <li>peakFrontier: tamaño máximo que llegó a tener la frontera.</li>
+ *   <li>maxDepth: profundidad máxima alcanzada (nivel en BFS, g en A*, tamaño de la pila en DFS).</li>
+ *   <li>bytesAllocated: memoria asignada por el hilo durante la búsqueda, -1 si no se midió.</li>
+ * </ul>
+ */
+public class SearchStats {
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private long nodesExpanded;
+    private long nodesEnqueued;
+    private int peakFrontier;
+    private int maxDepth;
+    private long bytesAllocated = -1;
+
+    public SearchStats() {
+    }
+
+    // Constructor usado al cargar estadísticas guardadas.
+    public SearchStats(long nodesExpanded, long nodesEnqueued, int peakFrontier, int maxDepth, long bytesAllocated) {
+        this.nodesExpanded = nodesExpanded;
+        this.nodesEnqueued = nodesEnqueued;
+        this.peakFrontier = peakFrontier;
+        this.maxDepth = maxDepth;
+        this.bytesAllocated = bytesAllocated;
+    }
+
+    // --- Actualización (la hacen los solucionadores) ---
+
+    public void addExpanded(long count) {
+        nodesExpanded += count;
+    }
+
+    public void addEnqueued(long count) {
+        nodesEnqueued += count;
+    }
+
+    public void updatePeakFrontier(int frontierSize) {
+        if (frontierSize > peakFrontier) {
+            peakFrontier = frontierSize;
+        }
+    }
+
+    public void updateMaxDepth(int depth) {
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    public void setBytesAllocated(long bytesAllocated) {
+        this.bytesAllocated = bytesAllocated;
+    }
+
+    // Getters
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public long getNodesEnqueued() {
+        return nodesEnqueued;
+    }
+
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getBytesAllocated() {
+        return bytesAllocated;
+    }
+
+    /**
+     * Bytes asignados hasta ahora por el hilo actual (contador de la JVM, ThreadMXBean).
+     * La diferencia entre dos lecturas es lo que asignó el hilo entre ellas.
+     * @return Los bytes asignados, o -1 si la JVM no ofrece esta medición.
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+                return sunBean;
+            }
+        }
+        return null;
+    }
+}
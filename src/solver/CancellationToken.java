@@ -0,0 +1,22 @@
+package solver;
+
+/**
+ * Señal para detener una o varias búsquedas en curso desde otro hilo (por ejemplo, el
+ * botón "Cancelar" de la interfaz). Los solucionadores no se interrumpen a la fuerza:
+ * revisan la señal cada {@link SearchContext#CHECK_INTERVAL} expansiones y se detienen
+ * lanzando {@link SearchCancelledException}.
+ */
+public final class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Pide que se detengan todas las búsquedas que usan este token.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
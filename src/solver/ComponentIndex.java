@@ -0,0 +1,200 @@
+package solver;
+
+import java.util.Arrays;
+import models.PackedMaze;
+
+/**
+ * Índice de componentes conexas del laberinto: dice en O(1) si dos celdas están conectadas,
+ * sin buscar. Si el inicio y el destino están en componentes distintas no hay camino, y el
+ * solucionador puede contestar de inmediato en lugar de recorrer toda la región alcanzable
+ * (ver {@link SearchContext#setComponentIndex(ComponentIndex)}).
+ *
+ * Se construye una vez por laberinto con un recorrido por filas y un union-find, y se
+ * actualiza con cada cambio de muro ({@link #setWall(int, boolean)}):
+ * <ul>
+ *   <li>Abrir una celda solo puede unir componentes: se une con sus vecinas abiertas.</li>
+ *   <li>Cerrar una celda con a lo sumo una vecina abierta no parte nada.</li>
+ *   <li>Cerrar una celda con dos o más vecinas abiertas puede partir su componente; como
+ *       un union-find no sabe separar, el índice se marca como desactualizado y se
+ *       reconstruye en la siguiente consulta.</li>
+ * </ul>
+ * Cada celda abierta apunta a un nodo del union-find; al reabrir una celda se le da un
+ * nodo nuevo, porque el anterior puede seguir siendo padre de otras celdas.
+ *
+ * Las consultas no modifican el índice salvo para reconstruirlo, así que varias búsquedas
+ * pueden consultarlo a la vez si antes se llamó a {@link #refresh()}. Las actualizaciones
+ * no deben hacerse mientras otro hilo consulta.
+ */
+public class ComponentIndex {
+    private static final int WALL = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int[] nodeOf;  // Nodo del union-find de cada celda, WALL si es muro
+    private int[] parent;        // Padre de cada nodo; las raíces son su propio padre
+    private byte[] rank;         // Cota de la altura de cada raíz (unión por rango)
+    private int nodeCount;
+    private boolean stale;
+
+    private ComponentIndex(int rows, int cols, int[] nodeOf) {
+        this.rows = rows;
+        this.cols = cols;
+        this.nodeOf = nodeOf;
+    }
+
+    /**
+     * Etiqueta las componentes del laberinto recorriéndolo por filas.
+     * @param maze El laberinto (no se guarda: el índice lleva su propia copia de qué celdas son muro).
+     * @return El índice ya construido.
+     */
+    public static ComponentIndex build(PackedMaze maze) {
+        int[] nodeOf = new int[maze.size()];
+        for (int i = 0; i < nodeOf.length; i++) {
+            nodeOf[i] = maze.isWall(i) ? WALL : 0;
+        }
+        ComponentIndex index = new ComponentIndex(maze.getRows(), maze.getCols(), nodeOf);
+        index.relabel();
+        return index;
+    }
+
+    /**
+     * Indica si hay un camino entre dos celdas. Una celda que es muro no está conectada con nada.
+     * @param a Índice lineal de una celda.
+     * @param b Índice lineal de la otra.
+     */
+    public boolean connected(int a, int b) {
+        refresh();
+        if (nodeOf[a] == WALL || nodeOf[b] == WALL) {
+            return false;
+        }
+        return root(nodeOf[a]) == root(nodeOf[b]);
+    }
+
+    /**
+     * Reconstruye el índice si algún cambio lo dejó desactualizado.
+     */
+    public void refresh() {
+        if (stale) {
+            relabel();
+        }
+    }
+
+    /**
+     * Actualiza el índice tras convertir una celda en muro o en pasillo.
+     * @param cell Índice lineal de la celda.
+     * @param wall true si ahora es muro.
+     */
+    public void setWall(int cell, boolean wall) {
+        boolean wasWall = nodeOf[cell] == WALL;
+        if (wall == wasWall) {
+            return;
+        }
+        if (wall) {
+            nodeOf[cell] = WALL;
+            if (!stale && openNeighbors(cell) >= 2) {
+                stale = true;
+            }
+            return;
+        }
+        if (stale) {
+            nodeOf[cell] = 0; // Se etiquetará al reconstruir.
+            return;
+        }
+        if (nodeCount == parent.length) {
+            // Los nodos de celdas cerradas no se reutilizan; si se acumulan demasiados, se compacta.
+            if (nodeCount >= 2 * nodeOf.length) {
+                nodeOf[cell] = 0;
+                relabel();
+                return;
+            }
+            parent = Arrays.copyOf(parent, Math.max(16, nodeCount + (nodeCount >> 1)));
+            rank = Arrays.copyOf(rank, parent.length);
+        }
+        int node = nodeCount++;
+        parent[node] = node;
+        rank[node] = 0;
+        nodeOf[cell] = node;
+        int row = cell / cols;
+        int col = cell % cols;
+        if (row > 0) union(cell, cell - cols);
+        if (row + 1 < rows) union(cell, cell + cols);
+        if (col > 0) union(cell, cell - 1);
+        if (col + 1 < cols) union(cell, cell + 1);
+    }
+
+    private int openNeighbors(int cell) {
+        int row = cell / cols;
+        int col = cell % cols;
+        int count = 0;
+        if (row > 0 && nodeOf[cell - cols] != WALL) count++;
+        if (row + 1 < rows && nodeOf[cell + cols] != WALL) count++;
+        if (col > 0 && nodeOf[cell - 1] != WALL) count++;
+        if (col + 1 < cols && nodeOf[cell + 1] != WALL) count++;
+        return count;
+    }
+
+    /**
+     * Etiquetado completo: cada celda abierta se une con sus vecinas de arriba y de la
+     * izquierda, y al final cada celda apunta directamente a la raíz de su componente.
+     */
+    private void relabel() {
+        int size = nodeOf.length;
+        int[] parent = new int[size];
+        byte[] rank = new byte[size];
+        this.parent = parent;
+        this.rank = rank;
+        for (int cell = 0; cell < size; cell++) {
+            if (nodeOf[cell] == WALL) {
+                continue;
+            }
+            parent[cell] = cell;
+            nodeOf[cell] = cell;
+            if (cell % cols > 0 && nodeOf[cell - 1] != WALL) {
+                union(cell, cell - 1);
+            }
+            if (cell >= cols && nodeOf[cell - cols] != WALL) {
+                union(cell, cell - cols);
+            }
+        }
+        for (int cell = 0; cell < size; cell++) {
+            if (nodeOf[cell] != WALL) {
+                nodeOf[cell] = root(cell);
+            }
+        }
+        nodeCount = size;
+        stale = false;
+    }
+
+    /**
+     * Une las componentes de dos celdas, si la segunda está abierta.
+     */
+    private void union(int cell, int other) {
+        if (nodeOf[other] == WALL) {
+            return;
+        }
+        int a = root(nodeOf[cell]);
+        int b = root(nodeOf[other]);
+        if (a == b) {
+            return;
+        }
+        if (rank[a] < rank[b]) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        } else if (rank[a] == rank[b]) {
+            rank[a]++;
+        }
+        parent[b] = a;
+    }
+
+    /**
+     * Raíz de un nodo. No comprime caminos, para que las consultas no escriban; la unión
+     * por rango ya limita la altura a O(log n).
+     */
+    private int root(int node) {
+        while (parent[node] != node) {
+            node = parent[node];
+        }
+        return node;
+    }
+}
@@ -0,0 +1,44 @@
+package solver;
+
+/**
+ * Heurísticas de distancia para las búsquedas informadas (A*, búsqueda voraz).
+ * Las estimaciones se expresan en unidades enteras: un paso entre celdas vecinas cuesta {@link #UNIT}.
+ * Así se pueden comparar como enteros primitivos sin perder la fracción de la distancia octil.
+ */
+public enum Heuristic {
+
+    /**
+     * Distancia Manhattan: |dFila| + |dColumna|. Es exacta en una cuadrícula abierta
+     * con movimientos en 4 direcciones.
+     */
+    MANHATTAN {
+        @Override
+        public int estimate(int dRow, int dCol) {
+            return (Math.abs(dRow) + Math.abs(dCol)) * UNIT;
+        }
+    },
+
+    /**
+     * Distancia octil: max + (√2 - 1) * min. Nunca supera a Manhattan, por lo que también
+     * es admisible con movimientos en 4 direcciones, aunque es menos informada.
+     */
+    OCTILE {
+        @Override
+        public int estimate(int dRow, int dCol) {
+            int dr = Math.abs(dRow);
+            int dc = Math.abs(dCol);
+            return Math.max(dr, dc) * UNIT + Math.min(dr, dc) * 414;
+        }
+    };
+
+    /** Costo de un paso entre dos celdas vecinas. */
+    public static final int UNIT = 1000;
+
+    /**
+     * Estima la distancia restante.
+     * @param dRow Diferencia de filas hasta el destino.
+     * @param dCol Diferencia de columnas hasta el destino.
+     * @return La distancia estimada, en unidades de {@link #UNIT} por paso.
+     */
+    public abstract int estimate(int dRow, int dCol);
+}
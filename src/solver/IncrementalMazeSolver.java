@@ -0,0 +1,67 @@
+package solver;
+
+import models.SearchStats;
+
+/**
+ * Solucionador que conserva su árbol de búsqueda entre ediciones del laberinto. Tras una
+ * primera planificación con {@link #plan(SearchContext)}, cada cambio de una celda entre
+ * muro y pasillo se avisa con {@link #onCellChanged(int, int)} y {@link #replan()} repara
+ * solo la zona afectada en lugar de resolver desde cero.
+ *
+ * La sesión de planificación pertenece a la instancia, como el modo paso a paso: cada
+ * laberinto que se edita necesita su propio solucionador. {@link #solve(SearchContext)}
+ * sigue siendo reentrante y no toca la sesión.
+ */
+public interface IncrementalMazeSolver extends MazeSolver {
+
+    /**
+     * Resuelve desde cero y guarda el estado de la búsqueda para poder repararlo después.
+     * El laberinto del contexto queda asociado a la sesión: quien lo edite debe avisar de
+     * cada cambio con {@link #onCellChanged(int, int)}. Las estadísticas, la cancelación y
+     * los límites del contexto se aplican a esta primera búsqueda.
+     * Si el índice de componentes del contexto dice que el destino no es alcanzable, no
+     * busca: la sesión queda iniciada igualmente, porque una edición posterior puede abrir
+     * el camino, y devuelve el arreglo vacío.
+     * @param context El contexto de la búsqueda (laberinto, inicio y destino).
+     * @return Los índices del camino en orden de inicio a fin, o un arreglo vacío si no hay solución.
+     */
+    int[] plan(SearchContext context);
+
+    /**
+     * Planifica como {@link #plan(SearchContext)} y además mide la memoria que asignó el hilo,
+     * que queda en {@code context.getStats().getBytesAllocated()}, como
+     * {@link #solveMeasured(SearchContext)}.
+     * @param context El contexto de la búsqueda; al terminar contiene sus estadísticas.
+     * @return Los índices del camino en orden de inicio a fin, o un arreglo vacío si no hay solución.
+     */
+    default int[] planMeasured(SearchContext context) {
+        long before = SearchStats.currentThreadAllocatedBytes();
+        int[] path = plan(context);
+        long after = SearchStats.currentThreadAllocatedBytes();
+        if (before >= 0) {
+            context.getStats().setBytesAllocated(after - before);
+        }
+        return path;
+    }
+
+    /**
+     * Avisa de que la celda cambió entre muro y pasillo en el laberinto de la sesión
+     * (el cambio ya debe estar hecho). Solo anota el cambio; el trabajo se hace en {@link #replan()}.
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     * @throws IllegalStateException Si no hay una sesión iniciada con {@link #plan(SearchContext)}.
+     */
+    void onCellChanged(int row, int col);
+
+    /**
+     * Repara la búsqueda tras los cambios avisados y devuelve el camino más corto actual.
+     * @return Los índices del camino en orden de inicio a fin, o un arreglo vacío si ya no hay solución.
+     * @throws IllegalStateException Si no hay una sesión iniciada con {@link #plan(SearchContext)}.
+     */
+    int[] replan();
+
+    /**
+     * @return Las celdas que expandió la última llamada a {@link #plan(SearchContext)} o {@link #replan()}.
+     */
+    long getLastExpanded();
+}
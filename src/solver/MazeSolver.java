@@ -3,6 +3,8 @@ package solver;
 import java.util.List;
 import java.util.function.Consumer;
 import models.Cell;
+import models.PackedMaze;
+import models.SearchStats;
 
 /**
  * Define el contrato (las reglas) para cualquier clase que quiera ser un
@@ -16,6 +18,94 @@ public interface MazeSolver {
      */
     List<Cell> solve(Cell[][] maze, Cell start, Cell end);
 
+    /**
+     * Resuelve el laberinto directamente sobre su representación compacta, sin crear objetos Cell.
+     * Crea un {@link SearchContext} nuevo para esta invocación y delega en {@link #solve(SearchContext)}.
+     * @param maze El laberinto compacto.
+     * @param start Índice lineal de la celda de inicio.
+     * @param end Índice lineal de la celda de destino.
+     * @return Los índices del camino en orden de inicio a fin, o un arreglo vacío si no hay solución.
+     */
+    default int[] solve(PackedMaze maze, int start, int end) {
+        return solve(new SearchContext(maze, start, end));
+    }
+
+    /**
+     * Resuelve el laberinto guardando todo el estado de la búsqueda en el contexto recibido.
+     * Las implementaciones no deben modificar el laberinto ni guardar estado de la búsqueda
+     * en el propio solucionador: así solve es reentrante y puede llamarse desde muchos hilos
+     * a la vez sobre el mismo laberinto. (El modo paso a paso, en cambio, sí pertenece a la
+     * instancia: cada sesión paso a paso necesita su propio solucionador.)
+     * La implementación por defecto materializa una matriz de celdas nueva y delega en
+     * {@link #solve(Cell[][], Cell, Cell)}; los solucionadores la sobrescriben para trabajar
+     * sobre los índices lineales (fila * columnas + columna).
+     * @param context El contexto de esta búsqueda (laberinto, inicio, destino y estado).
+     * @return Los índices del camino en orden de inicio a fin, o un arreglo vacío si no hay solución.
+     */
+    default int[] solve(SearchContext context) {
+        PackedMaze maze = context.getMaze();
+        Cell[][] grid = maze.toCells();
+        int start = context.getStart();
+        int end = context.getEnd();
+        List<Cell> path = solve(grid, grid[maze.row(start)][maze.col(start)], grid[maze.row(end)][maze.col(end)]);
+        int[] indices = new int[path.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = maze.index(path.get(i));
+        }
+        return indices;
+    }
+
+    /**
+     * Resuelve como {@link #solve(SearchContext)} y además mide la memoria que asignó el hilo
+     * durante la búsqueda, que queda en {@code context.getStats().getBytesAllocated()}.
+     * Si el contexto tiene un índice de componentes y este dice que el destino no es
+     * alcanzable, devuelve el arreglo vacío sin llegar a buscar.
+     * @param context El contexto de esta búsqueda; al terminar contiene sus estadísticas.
+     * @return Los índices del camino en orden de inicio a fin, o un arreglo vacío si no hay solución.
+     */
+    default int[] solveMeasured(SearchContext context) {
+        long before = SearchStats.currentThreadAllocatedBytes();
+        int[] path = context.isKnownUnreachable() ? new int[0] : solve(context);
+        long after = SearchStats.currentThreadAllocatedBytes();
+        if (before >= 0) {
+            context.getStats().setBytesAllocated(after - before);
+        }
+        return path;
+    }
+
+    /**
+     * Resuelve con límites de tiempo y de celdas expandidas. Si se agota alguno, la búsqueda
+     * no falla ni se queda esperando: devuelve un resultado de presupuesto agotado con la
+     * celda alcanzada más cercana al destino y, si se conoce, el camino parcial hasta ella.
+     * Como en {@link #solveMeasured(SearchContext)}, las estadísticas quedan en el contexto.
+     * @param context El contexto de esta búsqueda.
+     * @param options Los límites de la búsqueda.
+     * @return El resultado tipado (encontrado, sin camino o presupuesto agotado).
+     * @throws SearchCancelledException Solo si se canceló el token del contexto (eso no es un límite).
+     */
+    default SolveResult solve(SearchContext context, SolveOptions options) {
+        options.applyTo(context);
+        try {
+            int[] path = solveMeasured(context);
+            long expanded = context.getStats().getNodesExpanded();
+            return path.length > 0 ? SolveResult.found(path, expanded) : SolveResult.noPath(expanded);
+        } catch (SearchCancelledException e) {
+            if (e.getReason() == SearchCancelledException.Reason.CANCELLED) {
+                throw e;
+            }
+            // Los solucionadores que vuelcan sus contadores al terminar no llegaron a hacerlo.
+            SearchStats stats = context.getStats();
+            if (stats.getNodesExpanded() < e.getNodesExpanded()) {
+                stats.addExpanded(e.getNodesExpanded() - stats.getNodesExpanded());
+            }
+            SolveResult.Status status = e.getReason() == SearchCancelledException.Reason.TIMEOUT
+                    ? SolveResult.Status.DEADLINE_EXCEEDED : SolveResult.Status.NODE_BUDGET_EXCEEDED;
+            int closest = context.closestReachedCell();
+            int[] partialPath = context.hasPathFromStart(closest) ? context.reconstructPath(closest) : new int[0];
+            return SolveResult.budgetExhausted(status, partialPath, closest, e.getNodesExpanded());
+        }
+    }
+
     /**
      * Inicializa el algoritmo para una ejecución paso a paso.
      * Esto prepara el estado interno del solucionador para que pueda avanzar celda por celda.
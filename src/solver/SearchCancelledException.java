@@ -0,0 +1,39 @@
+package solver;
+
+/**
+ * Se lanza desde un solucionador cuando la búsqueda se detiene antes de terminar: porque
+ * se canceló su {@link CancellationToken}, porque se pasó el tiempo límite o porque se
+ * agotó el presupuesto de celdas expandidas del contexto.
+ * Es una excepción no comprobada para no cambiar la firma de {@code solve}.
+ */
+public class SearchCancelledException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Motivo por el que se detuvo la búsqueda. */
+    public enum Reason {
+        CANCELLED,   // Se canceló el token
+        TIMEOUT,     // Se pasó el tiempo límite
+        NODE_BUDGET  // Se expandieron más celdas de las permitidas
+    }
+
+    private final long nodesExpanded;
+    private final Reason reason;
+
+    public SearchCancelledException(String message, long nodesExpanded, Reason reason) {
+        super(message);
+        this.nodesExpanded = nodesExpanded;
+        this.reason = reason;
+    }
+
+    /**
+     * @return Las celdas expandidas hasta el momento de detenerse.
+     */
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
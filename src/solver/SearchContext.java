@@ -0,0 +1,297 @@
+package solver;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import models.PackedMaze;
+import models.SearchStats;
+
+/**
+ * Estado de una búsqueda concreta (una invocación de solve o una sesión paso a paso).
+ * Antes los solucionadores guardaban el padre de cada celda con Cell.setParent, es decir,
+ * dentro del laberinto compartido, por lo que dos búsquedas simultáneas se pisaban.
+ * Ahora padres, visitados y distancias viven aquí, indexados por índice lineal, y el
+ * laberinto solo se lee: varias búsquedas pueden correr a la vez sobre el mismo PackedMaze.
+ * Los arreglos se crean la primera vez que se piden, así cada algoritmo paga solo lo que usa.
+ * El contexto también lleva los contadores de la búsqueda ({@link SearchStats}) y los
+ * controles para detenerla desde fuera: un token de cancelación, un tiempo límite y un
+ * observador de progreso, que los solucionadores atienden en {@link #checkpoint(long)}.
+ * Opcionalmente lleva un {@link ComponentIndex} del laberinto para descartar sin buscar
+ * los casos en que el destino no es alcanzable.
+ */
+public class SearchContext {
+    private final PackedMaze maze;
+    private final int start;
+    private final int end;
+
+    private int[] parents;
+    private int[] distances;
+    private boolean[] visited;
+    /**
+     * Cada cuántas expansiones llaman los solucionadores a {@link #checkpoint(long)}. Con un
+     * presupuesto de celdas hay además un punto de control justo al pasarse de él.
+     */
+    public static final int CHECK_INTERVAL = 4096;
+
+    private final SearchStats stats = new SearchStats();
+
+    private CancellationToken cancellationToken;
+    private long deadline;          // En System.nanoTime()
+    private boolean hasDeadline;
+    private LongConsumer progressListener;
+    private long maxExpanded = Long.MAX_VALUE;
+    private ComponentIndex components;
+
+    /**
+     * @param maze El laberinto a recorrer (no se modifica).
+     * @param start Índice lineal de la celda de inicio.
+     * @param end Índice lineal de la celda de destino.
+     */
+    public SearchContext(PackedMaze maze, int start, int end) {
+        this.maze = maze;
+        this.start = start;
+        this.end = end;
+    }
+
+    // Getters
+    public PackedMaze getMaze() {
+        return maze;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * @return Los contadores de esta búsqueda, que el solucionador actualiza mientras avanza.
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @param token Token que, al cancelarse, detiene esta búsqueda (puede compartirse entre varias).
+     */
+    public void setCancellationToken(CancellationToken token) {
+        this.cancellationToken = token;
+    }
+
+    /**
+     * Limita la duración de la búsqueda a partir de este momento.
+     * @param timeoutNanos Tiempo máximo en nanosegundos.
+     */
+    public void setTimeout(long timeoutNanos) {
+        this.deadline = System.nanoTime() + timeoutNanos;
+        this.hasDeadline = true;
+    }
+
+    /**
+     * Limita el número de celdas que puede expandir la búsqueda: con maxExpanded = B se
+     * permiten exactamente B expansiones, y la búsqueda se detiene en la B + 1 (que queda
+     * contada en las estadísticas).
+     * @param maxExpanded Presupuesto de celdas expandidas (positivo).
+     */
+    public void setMaxExpanded(long maxExpanded) {
+        this.maxExpanded = maxExpanded;
+    }
+
+    /**
+     * Número de expansiones en el que el solucionador debe llamar por primera vez a
+     * {@link #checkpoint(long)}; cada llamada devuelve el siguiente. Así el bucle de cada
+     * solucionador solo compara su contador con un número, sea cual sea el presupuesto.
+     */
+    public long firstCheckpoint() {
+        return nextCheckpoint(0);
+    }
+
+    /**
+     * El siguiente punto de control: dentro de CHECK_INTERVAL expansiones, o antes si ahí
+     * se pasaría del presupuesto.
+     */
+    private long nextCheckpoint(long expanded) {
+        long next = expanded + CHECK_INTERVAL;
+        return maxExpanded < next ? maxExpanded + 1 : next;
+    }
+
+    /**
+     * @param components Índice de componentes del mismo laberinto (puede compartirse entre
+     *                   búsquedas), o null para no usarlo.
+     */
+    public void setComponentIndex(ComponentIndex components) {
+        this.components = components;
+    }
+
+    /**
+     * Indica si ya se sabe, sin buscar, que no hay camino del inicio al destino.
+     * Sin índice de componentes siempre devuelve false.
+     */
+    public boolean isKnownUnreachable() {
+        return components != null && !components.connected(start, end);
+    }
+
+    /**
+     * @param listener Recibe las celdas expandidas hasta el momento en cada punto de control.
+     *                 Se llama desde el hilo que resuelve, no desde el de la interfaz.
+     */
+    public void setProgressListener(LongConsumer listener) {
+        this.progressListener = listener;
+    }
+
+    /**
+     * Punto de control de la búsqueda: informa el progreso y la detiene si se canceló o se
+     * acabó el tiempo o el presupuesto de celdas. Los solucionadores lo llaman cuando su
+     * contador de expansiones (el mismo que queda en las estadísticas) llega a
+     * {@link #firstCheckpoint()} y después al valor que devuelve cada llamada, así que el
+     * costo de comprobar el reloj se reparte entre miles de celdas.
+     * @param expanded Celdas expandidas hasta ahora.
+     * @return El número de expansiones del siguiente punto de control.
+     * @throws SearchCancelledException Si la búsqueda debe detenerse.
+     */
+    public long checkpoint(long expanded) {
+        if (expanded > maxExpanded) {
+            throw new SearchCancelledException("Se agotó el presupuesto de " + maxExpanded + " celdas expandidas.",
+                    expanded, SearchCancelledException.Reason.NODE_BUDGET);
+        }
+        if (progressListener != null) {
+            progressListener.accept(expanded);
+        }
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            throw new SearchCancelledException("Búsqueda cancelada tras expandir " + expanded + " celdas.",
+                    expanded, SearchCancelledException.Reason.CANCELLED);
+        }
+        if (hasDeadline && System.nanoTime() - deadline >= 0) {
+            throw new SearchCancelledException("Se agotó el tiempo límite tras expandir " + expanded + " celdas.",
+                    expanded, SearchCancelledException.Reason.TIMEOUT);
+        }
+        return nextCheckpoint(expanded);
+    }
+
+    /**
+     * Arreglo de padres: -1 = sin padre todavía. Por convención la celda raíz de la
+     * búsqueda es su propio padre, que es donde se detiene {@link #reconstructPath(int)}.
+     */
+    public int[] parents() {
+        if (parents == null) {
+            parents = new int[maze.size()];
+            Arrays.fill(parents, -1);
+        }
+        return parents;
+    }
+
+    /**
+     * Arreglo de distancias (en pasos) desde la raíz: -1 = no alcanzada.
+     */
+    public int[] distances() {
+        if (distances == null) {
+            distances = new int[maze.size()];
+            Arrays.fill(distances, -1);
+        }
+        return distances;
+    }
+
+    /**
+     * Arreglo de celdas visitadas, inicialmente todo en false.
+     */
+    public boolean[] visited() {
+        if (visited == null) {
+            visited = new boolean[maze.size()];
+        }
+        return visited;
+    }
+
+    /**
+     * Busca, entre las celdas que la búsqueda alcanzó desde el inicio, la más cercana al
+     * destino (distancia Manhattan). Sirve para devolver algo útil cuando la búsqueda se
+     * detiene antes de terminar. Se decide con los arreglos que usó el solucionador: si hay
+     * padres, solo cuentan las celdas cuya cadena de padres llega al inicio (en la búsqueda
+     * bidireccional la onda inversa cuelga del destino); si no, las marcadas como visitadas.
+     * @return El índice de la celda más cercana, o -1 si no se alcanzó ninguna.
+     */
+    public int closestReachedCell() {
+        int cols = maze.getCols();
+        int endRow = end / cols;
+        int endCol = end % cols;
+        byte[] fromStart = parents == null ? null : rootsFromStart();
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int cell = 0; cell < maze.size(); cell++) {
+            boolean reached = fromStart != null ? fromStart[cell] == REACHED
+                    : visited != null ? visited[cell]
+                    : distances != null && distances[cell] >= 0;
+            if (!reached) {
+                continue;
+            }
+            int distance = Math.abs(cell / cols - endRow) + Math.abs(cell % cols - endCol);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return true si la celda tiene una cadena de padres que llega al inicio, es decir, si
+     *         {@link #reconstructPath(int)} da un camino desde el inicio hasta ella.
+     */
+    public boolean hasPathFromStart(int cell) {
+        if (parents == null || cell < 0 || parents[cell] < 0) {
+            return false;
+        }
+        int i = cell;
+        while (parents[i] != i) {
+            i = parents[i];
+        }
+        return i == start;
+    }
+
+    // Marcas de rootsFromStart(): 0 = sin decidir, REACHED = cuelga del inicio, OTHER = no.
+    private static final byte REACHED = 1;
+    private static final byte OTHER = 2;
+
+    /**
+     * Marca qué celdas cuelgan del inicio siguiendo los padres. Cada celda se resuelve una
+     * vez: el recorrido se detiene en la primera celda ya marcada, así que el total es lineal.
+     */
+    private byte[] rootsFromStart() {
+        byte[] mark = new byte[parents.length];
+        for (int cell = 0; cell < parents.length; cell++) {
+            if (mark[cell] != 0 || parents[cell] < 0) {
+                continue;
+            }
+            int i = cell;
+            while (mark[i] == 0 && parents[i] != i) {
+                i = parents[i];
+            }
+            byte result = mark[i] != 0 ? mark[i] : (i == start ? REACHED : OTHER);
+            for (int j = cell; mark[j] == 0; j = parents[j]) {
+                mark[j] = result;
+                if (parents[j] == j) {
+                    break;
+                }
+            }
+        }
+        return mark;
+    }
+
+    /**
+     * Reconstruye el camino hasta la celda indicada siguiendo el arreglo de padres.
+     * @param cell Índice de la última celda del camino.
+     * @return Los índices del camino, en orden desde la raíz hasta la celda.
+     */
+    public int[] reconstructPath(int cell) {
+        int[] parent = parents();
+        int length = 1;
+        for (int i = cell; parent[i] != i; i = parent[i]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int i = cell, k = length - 1; k >= 0; i = parent[i], k--) {
+            path[k] = i;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,75 @@
+package solver;
+
+/**
+ * Límites de una búsqueda: tiempo máximo y número máximo de celdas expandidas. Al superar
+ * cualquiera de los dos, {@link MazeSolver#solve(SearchContext, SolveOptions)} no se queda
+ * esperando: devuelve un {@link SolveResult} de presupuesto agotado con lo mejor encontrado.
+ * Es inmutable y puede reutilizarse en muchas búsquedas, por ejemplo:
+ * {@code SolveOptions.unlimited().timeoutMillis(50).maxExpanded(1_000_000)}.
+ */
+public final class SolveOptions {
+
+    private final long timeoutNanos;  // Long.MAX_VALUE = sin límite de tiempo
+    private final long maxExpanded;   // Long.MAX_VALUE = sin límite de celdas
+
+    private SolveOptions(long timeoutNanos, long maxExpanded) {
+        this.timeoutNanos = timeoutNanos;
+        this.maxExpanded = maxExpanded;
+    }
+
+    /**
+     * @return Opciones sin ningún límite (la búsqueda corre hasta terminar).
+     */
+    public static SolveOptions unlimited() {
+        return new SolveOptions(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param timeoutNanos Tiempo máximo de cada búsqueda, contado desde que empieza, en nanosegundos.
+     */
+    public SolveOptions timeoutNanos(long timeoutNanos) {
+        if (timeoutNanos <= 0) {
+            throw new IllegalArgumentException("El tiempo límite debe ser positivo: " + timeoutNanos);
+        }
+        return new SolveOptions(timeoutNanos, maxExpanded);
+    }
+
+    /**
+     * @param timeoutMillis Tiempo máximo de cada búsqueda, en milisegundos.
+     */
+    public SolveOptions timeoutMillis(long timeoutMillis) {
+        return timeoutNanos(timeoutMillis * 1_000_000L);
+    }
+
+    /**
+     * @param maxExpanded Número máximo de celdas que puede expandir la búsqueda.
+     */
+    public SolveOptions maxExpanded(long maxExpanded) {
+        if (maxExpanded <= 0) {
+            throw new IllegalArgumentException("El presupuesto de celdas debe ser positivo: " + maxExpanded);
+        }
+        return new SolveOptions(timeoutNanos, maxExpanded);
+    }
+
+    // Getters
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    public long getMaxExpanded() {
+        return maxExpanded;
+    }
+
+    /**
+     * Traslada los límites al contexto de una búsqueda que está por empezar (el tiempo
+     * empieza a contar en este momento).
+     */
+    void applyTo(SearchContext context) {
+        if (timeoutNanos != Long.MAX_VALUE) {
+            context.setTimeout(timeoutNanos);
+        }
+        if (maxExpanded != Long.MAX_VALUE) {
+            context.setMaxExpanded(maxExpanded);
+        }
+    }
+}
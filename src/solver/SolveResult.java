@@ -0,0 +1,78 @@
+package solver;
+
+/**
+ * Resultado de una búsqueda con límites ({@link SolveOptions}). Además de los dos casos
+ * de siempre (camino encontrado o sin solución), distingue cuándo se agotó el presupuesto:
+ * en ese caso trae la celda alcanzada más cercana al destino (por distancia Manhattan) y,
+ * si el algoritmo guarda padres, el camino parcial hasta ella.
+ */
+public final class SolveResult {
+
+    public enum Status {
+        FOUND,                 // Se encontró el camino
+        NO_PATH,               // La búsqueda terminó sin camino
+        DEADLINE_EXCEEDED,     // Se pasó el tiempo límite
+        NODE_BUDGET_EXCEEDED   // Se expandieron las celdas permitidas sin terminar
+    }
+
+    private final Status status;
+    private final int[] path;        // Camino completo (FOUND) o parcial hasta closestCell
+    private final int closestCell;   // -1 si no se alcanzó ninguna celda
+    private final long nodesExpanded;
+
+    private SolveResult(Status status, int[] path, int closestCell, long nodesExpanded) {
+        this.status = status;
+        this.path = path;
+        this.closestCell = closestCell;
+        this.nodesExpanded = nodesExpanded;
+    }
+
+    public static SolveResult found(int[] path, long nodesExpanded) {
+        return new SolveResult(Status.FOUND, path, path[path.length - 1], nodesExpanded);
+    }
+
+    public static SolveResult noPath(long nodesExpanded) {
+        return new SolveResult(Status.NO_PATH, new int[0], -1, nodesExpanded);
+    }
+
+    /**
+     * @param status DEADLINE_EXCEEDED o NODE_BUDGET_EXCEEDED.
+     * @param partialPath Camino desde el inicio hasta la celda más cercana (vacío si no se conoce).
+     * @param closestCell La celda alcanzada más cercana al destino, o -1 si no hay ninguna.
+     */
+    public static SolveResult budgetExhausted(Status status, int[] partialPath, int closestCell, long nodesExpanded) {
+        if (status != Status.DEADLINE_EXCEEDED && status != Status.NODE_BUDGET_EXCEEDED) {
+            throw new IllegalArgumentException("No es un estado de presupuesto agotado: " + status);
+        }
+        return new SolveResult(status, partialPath, closestCell, nodesExpanded);
+    }
+
+    // Getters
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Los índices del camino: completo si se encontró, parcial hasta la celda más
+     *         cercana si se agotó el presupuesto, o vacío.
+     */
+    public int[] getPath() {
+        return path;
+    }
+
+    public int getClosestCell() {
+        return closestCell;
+    }
+
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+
+    public boolean isBudgetExhausted() {
+        return status == Status.DEADLINE_EXCEEDED || status == Status.NODE_BUDGET_EXCEEDED;
+    }
+}
@@ -0,0 +1,72 @@
+package solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import solver.solverImpl.*;
+
+/**
+ * Catálogo de los algoritmos disponibles, por nombre.
+ * Centraliza la lista que antes estaba repartida entre el combo de la interfaz y el
+ * switch del controlador, para que la interfaz, el modo "Ejecutar todos" y las
+ * herramientas sin interfaz gráfica usen siempre los mismos nombres.
+ */
+public final class SolverRegistry {
+
+    private static final Map<String, Supplier<MazeSolver>> SOLVERS = new LinkedHashMap<>();
+    private static final Map<String, String> ALIASES = new LinkedHashMap<>();
+
+    static {
+        // El orden de registro es el orden en que aparecen en la interfaz.
+        register("Recursivo", MazeSolverRecursivo::new);
+        register("Recursivo Completo", MazeSolverRecursivoCompleto::new);
+        register("Recursivo Completo BT", MazeSolverRecursivoCompletoBT::new);
+        register("BFS", MazeSolverBFS::new);
+        register("BFS Bidireccional", MazeSolverBidirectionalBFS::new);
+        register("DFS", MazeSolverDFS::new);
+        alias("Backtracking", "Recursivo Completo BT");
+        register("A*", MazeSolverAStar::new);
+        register("LPA*", MazeSolverLPAStar::new);
+        register("Jump Point Search", MazeSolverJPS::new);
+        register("Greedy Best-First", MazeSolverGreedy::new);
+    }
+
+    private SolverRegistry() {
+    }
+
+    private static void register(String name, Supplier<MazeSolver> factory) {
+        SOLVERS.put(name, factory);
+        ALIASES.put(name, name);
+    }
+
+    private static void alias(String alias, String target) {
+        ALIASES.put(alias, target);
+    }
+
+    /**
+     * Devuelve una instancia nueva del algoritmo solicitado.
+     * @param name El nombre del algoritmo (o uno de sus alias).
+     * @return una instancia de MazeSolver, o null si el nombre no existe.
+     */
+    public static MazeSolver create(String name) {
+        String target = ALIASES.get(name);
+        return target == null ? null : SOLVERS.get(target).get();
+    }
+
+    /**
+     * @return Todos los nombres que acepta {@link #create(String)}, incluidos los alias, en orden de interfaz.
+     */
+    public static List<String> getNames() {
+        return Collections.unmodifiableList(new ArrayList<>(ALIASES.keySet()));
+    }
+
+    /**
+     * @return Un nombre por algoritmo distinto (sin alias), útil para ejecutarlos todos una sola vez.
+     */
+    public static List<String> getAlgorithmNames() {
+        return Collections.unmodifiableList(new ArrayList<>(SOLVERS.keySet()));
+    }
+}
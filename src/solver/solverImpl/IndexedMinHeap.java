@@ -0,0 +1,168 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario mínimo de índices de celda con prioridad primitiva.
+ * Sustituye a PriorityQueue<Cell>: no crea un objeto por inserción y permite
+ * actualizar la prioridad de una celda que ya está en la cola (decrease-key).
+ * Cada elemento tiene dos claves long que se comparan en orden lexicográfico
+ * (la segunda sirve para desempatar).
+ */
+final class IndexedMinHeap {
+    private int[] items;   // Celdas en orden de montículo
+    private long[] keys1;  // Clave principal de cada posición del montículo
+    private long[] keys2;  // Clave de desempate de cada posición del montículo
+    private final int[] position; // position[celda] = posición en el montículo + 1 (0 = no está)
+    private int size;
+
+    /**
+     * @param universe Cantidad de celdas posibles (los índices van de 0 a universe - 1).
+     */
+    IndexedMinHeap(int universe) {
+        int initial = Math.max(16, Math.min(universe, 1024));
+        this.items = new int[initial];
+        this.keys1 = new long[initial];
+        this.keys2 = new long[initial];
+        this.position = new int[universe];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int item) {
+        return position[item] != 0;
+    }
+
+    /**
+     * Inserta la celda o, si ya estaba en la cola, cambia su prioridad.
+     */
+    void push(int item, long key1, long key2) {
+        int pos = position[item] - 1;
+        if (pos < 0) {
+            if (size == items.length) {
+                int capacity = size << 1;
+                items = Arrays.copyOf(items, capacity);
+                keys1 = Arrays.copyOf(keys1, capacity);
+                keys2 = Arrays.copyOf(keys2, capacity);
+            }
+            pos = size++;
+            set(pos, item, key1, key2);
+            siftUp(pos);
+        } else {
+            boolean decreased = less(key1, key2, keys1[pos], keys2[pos]);
+            keys1[pos] = key1;
+            keys2[pos] = key2;
+            if (decreased) {
+                siftUp(pos);
+            } else {
+                siftDown(pos);
+            }
+        }
+    }
+
+    /**
+     * @return La celda de menor prioridad, sin quitarla.
+     */
+    int peek() {
+        return items[0];
+    }
+
+    long peekKey1() {
+        return keys1[0];
+    }
+
+    long peekKey2() {
+        return keys2[0];
+    }
+
+    /**
+     * Quita y devuelve la celda de menor prioridad.
+     */
+    int poll() {
+        int top = items[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Quita la celda de la cola si estaba en ella.
+     */
+    void remove(int item) {
+        int pos = position[item] - 1;
+        if (pos >= 0) {
+            removeAt(pos);
+        }
+    }
+
+    /**
+     * Vacía la cola sin liberar memoria.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[items[i]] = 0;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int pos) {
+        position[items[pos]] = 0;
+        int last = --size;
+        if (pos != last) {
+            set(pos, items[last], keys1[last], keys2[last]);
+            siftDown(pos);
+            siftUp(pos);
+        }
+    }
+
+    private void siftUp(int pos) {
+        int item = items[pos];
+        long k1 = keys1[pos];
+        long k2 = keys2[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!less(k1, k2, keys1[parent], keys2[parent])) {
+                break;
+            }
+            set(pos, items[parent], keys1[parent], keys2[parent]);
+            pos = parent;
+        }
+        set(pos, item, k1, k2);
+    }
+
+    private void siftDown(int pos) {
+        int item = items[pos];
+        long k1 = keys1[pos];
+        long k2 = keys2[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = (pos << 1) + 1;
+            int right = child + 1;
+            if (right < size && less(keys1[right], keys2[right], keys1[child], keys2[child])) {
+                child = right;
+            }
+            if (!less(keys1[child], keys2[child], k1, k2)) {
+                break;
+            }
+            set(pos, items[child], keys1[child], keys2[child]);
+            pos = child;
+        }
+        set(pos, item, k1, k2);
+    }
+
+    private void set(int pos, int item, long key1, long key2) {
+        items[pos] = item;
+        keys1[pos] = key1;
+        keys2[pos] = key2;
+        position[item] = pos + 1;
+    }
+
+    private static boolean less(long a1, long a2, long b1, long b2) {
+        return a1 < b1 || (a1 == b1 && a2 < b2);
+    }
+}
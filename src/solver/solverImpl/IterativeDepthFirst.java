@@ -0,0 +1,114 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+import models.PackedMaze;
+import models.SearchStats;
+import solver.SearchContext;
+
+/**
+ * Versión iterativa (con pila explícita) de la búsqueda recursiva en profundidad que
+ * comparten los solucionadores DFS, Recursivo, Recursivo Completo y Recursivo Completo BT.
+ * Cada nivel de la pila equivale a una llamada recursiva: guarda la celda y cuál es la
+ * siguiente dirección por probar. Así se respeta exactamente el orden de exploración de
+ * la recursión, pero sin riesgo de StackOverflowError en corredores muy largos.
+ */
+final class IterativeDepthFirst {
+
+    private IterativeDepthFirst() {
+    }
+
+    /**
+     * Busca un camino en profundidad probando las direcciones en el orden indicado.
+     * @param context El contexto de la búsqueda (laberinto, inicio, destino y visitados).
+     * @param dRow Desplazamiento de fila de cada dirección, en orden de exploración.
+     * @param dCol Desplazamiento de columna de cada dirección, en orden de exploración.
+     * @return Los índices del camino (el contenido de la pila al llegar al destino),
+     *         o un arreglo vacío si no hay solución.
+     */
+    static int[] search(SearchContext context, int[] dRow, int[] dCol) {
+        final PackedMaze maze = context.getMaze();
+        final int start = context.getStart();
+        final int end = context.getEnd();
+        SearchStats stats = context.getStats();
+        if (maze.isWall(start)) {
+            return new int[0];
+        }
+        stats.addExpanded(1);
+        stats.addEnqueued(1);
+        stats.updatePeakFrontier(1);
+        if (start == end) {
+            return new int[]{start};
+        }
+        final int rows = maze.getRows();
+        final int cols = maze.getCols();
+        final int directions = dRow.length;
+        boolean[] visited = context.visited();
+
+        // La pila crece según haga falta: en laberintos con ramas cortas queda muy por debajo de n.
+        int[] stack = new int[Math.min(maze.size(), 1024)];
+        byte[] nextDirection = new byte[stack.length];
+        int depth = 0;
+        int maxDepth = 1;
+        long pushes = 0; // Celdas apiladas además del inicio (cada una se expande una vez)
+
+        visited[start] = true;
+        stack[depth++] = start;
+
+        long nextCheck = context.firstCheckpoint();
+        while (depth > 0) {
+            int top = depth - 1;
+            int direction = nextDirection[top];
+            if (direction == directions) {
+                depth--; // Se probaron todas las direcciones: se "retorna" de esta llamada.
+                continue;
+            }
+            nextDirection[top] = (byte) (direction + 1);
+
+            int current = stack[top];
+            int row = current / cols + dRow[direction];
+            int col = current % cols + dCol[direction];
+            if (row < 0 || col < 0 || row >= rows || col >= cols) {
+                continue;
+            }
+            int neighbor = row * cols + col;
+            if (visited[neighbor] || maze.isWall(neighbor)) {
+                continue;
+            }
+            visited[neighbor] = true;
+
+            if (depth == stack.length) {
+                int capacity = (int) Math.min((long) stack.length << 1, maze.size());
+                stack = Arrays.copyOf(stack, capacity);
+                nextDirection = Arrays.copyOf(nextDirection, capacity);
+            }
+            stack[depth] = neighbor;
+            nextDirection[depth] = 0;
+            depth++;
+            pushes++;
+            // Las expansiones son las celdas apiladas más el inicio, como en las estadísticas.
+            if (pushes + 1 == nextCheck) {
+                nextCheck = context.checkpoint(pushes + 1); // Cancelación, límites y progreso
+            }
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+
+            if (neighbor == end) {
+                recordStats(stats, pushes, maxDepth);
+                return Arrays.copyOf(stack, depth); // La pila es exactamente el camino de inicio a fin.
+            }
+        }
+        recordStats(stats, pushes, maxDepth);
+        return new int[0];
+    }
+
+    /**
+     * En profundidad la frontera es la propia pila: su tamaño máximo es también la profundidad máxima.
+     */
+    private static void recordStats(SearchStats stats, long pushes, int maxDepth) {
+        stats.addExpanded(pushes);
+        stats.addEnqueued(pushes);
+        stats.updatePeakFrontier(maxDepth);
+        stats.updateMaxDepth(maxDepth);
+    }
+}
@@ -0,0 +1,220 @@
+package solver.solverImpl;
+
+import java.util.Collections;
+import java.util.List;
+import models.Cell;
+import models.PackedMaze;
+import solver.Heuristic;
+import solver.MazeSolver;
+import solver.SearchContext;
+
+/**
+ * Resuelve el laberinto utilizando el algoritmo A*.
+ * Expande primero las celdas con menor f = g + h, donde g es la distancia recorrida desde
+ * el inicio y h una estimación (heurística) de lo que falta hasta el destino. Con una
+ * heurística admisible encuentra el camino más corto, igual que BFS, pero en laberintos
+ * abiertos explora muchas menos celdas porque avanza "en dirección" al destino.
+ * La cola de prioridad es un montículo binario de índices primitivos (sin objetos Cell).
+ */
+public class MazeSolverAStar implements MazeSolver {
+
+    private final Heuristic heuristic;
+
+    // Estado del modo paso a paso
+    private Cell[][] mazeGrid;
+    private Search stepSearch;
+    private List<Cell> finalPath;
+    private boolean finished;
+
+    /**
+     * Crea el solucionador con la heurística Manhattan (exacta en cuadrículas abiertas).
+     */
+    public MazeSolverAStar() {
+        this(Heuristic.MANHATTAN);
+    }
+
+    /**
+     * Crea el solucionador con la heurística indicada.
+     * @param heuristic La heurística de distancia a usar.
+     */
+    public MazeSolverAStar(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+
+    /**
+     * Calcula la prioridad de una celda en la cola. En A* es f = g + h.
+     * @param g Costo acumulado desde el inicio (en unidades de {@link Heuristic#UNIT}).
+     * @param h Estimación hasta el destino.
+     * @return La prioridad; las celdas con menor valor se expanden primero.
+     */
+    protected long priority(long g, int h) {
+        return g + h;
+    }
+
+    /**
+     * Resuelve el laberinto de forma rápida, sin animación.
+     */
+    @Override
+    public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto directamente sobre la representación compacta.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        Search search = new Search(context);
+        long nextCheck = context.firstCheckpoint();
+        for (long steps = 1; search.step() >= 0; steps++) {
+            // Se expande hasta encontrar el destino o vaciar la cola.
+            if (steps == nextCheck) {
+                nextCheck = context.checkpoint(steps); // Cancelación, límites y progreso
+            }
+        }
+        return search.path;
+    }
+
+    /**
+     * Inicializa el algoritmo para una ejecución paso a paso (manual).
+     */
+    @Override
+    public void initializeStepByStep(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.mazeGrid = maze;
+        this.stepSearch = new Search(new SearchContext(packed, packed.index(start), packed.index(end)));
+        this.finalPath = Collections.emptyList();
+        this.finished = false;
+    }
+
+    /**
+     * Ejecuta un solo paso: saca de la cola la celda con menor prioridad y la expande.
+     * @return La celda expandida en este paso, o null si la búsqueda ha terminado.
+     */
+    @Override
+    public Cell doStep() {
+        if (finished) {
+            return null;
+        }
+        int expanded = stepSearch.step();
+        if (stepSearch.done) {
+            finalPath = PackedMaze.toCellPath(stepSearch.path, mazeGrid);
+            finished = true;
+        }
+        if (expanded < 0) {
+            return null;
+        }
+        int cols = mazeGrid[0].length;
+        return mazeGrid[expanded / cols][expanded % cols];
+    }
+
+    /**
+     * Verifica si la búsqueda paso a paso ha terminado.
+     */
+    @Override
+    public boolean isStepByStepFinished() {
+        return finished;
+    }
+
+    /**
+     * Devuelve el camino final después de la búsqueda paso a paso.
+     */
+    @Override
+    public List<Cell> getFinalPath() {
+        return finalPath;
+    }
+
+    /**
+     * Estado de una búsqueda concreta. Se usa tanto en la resolución rápida como
+     * en el modo paso a paso, donde cada llamada a step() es un paso visible.
+     */
+    private class Search {
+        private final SearchContext context;
+        private final PackedMaze maze;
+        private final int end;
+        private final int endRow;
+        private final int endCol;
+        private final int[] g;      // Pasos desde el inicio (-1 = no descubierta)
+        private final int[] parent; // Predecesor de cada celda en el mejor camino conocido
+        private final boolean[] closed;
+        private final IndexedMinHeap open;
+        private int[] path = new int[0];
+        private boolean done;
+
+        Search(SearchContext context) {
+            this.context = context;
+            this.maze = context.getMaze();
+            this.end = context.getEnd();
+            this.endRow = maze.row(end);
+            this.endCol = maze.col(end);
+            this.g = context.distances();
+            this.parent = context.parents();
+            this.closed = context.visited();
+            this.open = new IndexedMinHeap(maze.size());
+
+            int start = context.getStart();
+            g[start] = 0;
+            parent[start] = start;
+            push(start, 0);
+        }
+
+        /**
+         * Expande la siguiente celda de la cola.
+         * @return El índice de la celda expandida, o -1 si ya no hay nada que expandir.
+         */
+        int step() {
+            if (done) {
+                return -1;
+            }
+            if (open.isEmpty()) {
+                done = true;
+                return -1;
+            }
+            int current = open.poll();
+            closed[current] = true;
+            context.getStats().addExpanded(1);
+            context.getStats().updateMaxDepth(g[current]);
+            if (current == end) {
+                path = context.reconstructPath(end);
+                done = true;
+                return current;
+            }
+
+            int cols = maze.getCols();
+            int row = current / cols;
+            int col = current - row * cols;
+            int nextG = g[current] + 1;
+            // Abajo, Arriba, Derecha, Izquierda
+            if (row + 1 < maze.getRows()) relax(current, current + cols, nextG);
+            if (row > 0) relax(current, current - cols, nextG);
+            if (col + 1 < cols) relax(current, current + 1, nextG);
+            if (col > 0) relax(current, current - 1, nextG);
+            return current;
+        }
+
+        private void relax(int from, int neighbor, int nextG) {
+            if (closed[neighbor] || maze.isWall(neighbor)) {
+                return;
+            }
+            if (g[neighbor] < 0 || nextG < g[neighbor]) {
+                g[neighbor] = nextG;
+                parent[neighbor] = from;
+                push(neighbor, nextG);
+            }
+        }
+
+        private void push(int cell, int steps) {
+            int h = heuristic.estimate(endRow - maze.row(cell), endCol - maze.col(cell));
+            // Desempate por menor h: ante igual prioridad se prefiere la celda más cercana al destino.
+            open.push(cell, priority((long) steps * Heuristic.UNIT, h), h);
+            context.getStats().addEnqueued(1);
+            context.getStats().updatePeakFrontier(open.size());
+        }
+    }
+}
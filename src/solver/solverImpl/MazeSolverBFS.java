@@ -4,7 +4,10 @@ import java.util.*;
 import java.util.function.Consumer; 
 import models.Cell;
 import models.CellState;
+import models.PackedMaze;
+import models.SearchStats;
 import solver.MazeSolver;
+import solver.SearchContext;
 
 /**
  * Resuelve el laberinto utilizando el algoritmo de Búsqueda en Amplitud (BFS).
@@ -20,9 +23,15 @@ public class MazeSolverBFS implements MazeSolver {
     private Cell endCell;
     private List<Cell> finalPath; // Para almacenar el camino una vez encontrado.
     private boolean finished; // Indica si la búsqueda ha terminado.
+    private SearchContext stepContext; // Padres de la sesión paso a paso (indexados por celda)
+
+    // Orden de exploración: Abajo, Arriba, Derecha, Izquierda
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
 
     /**
      * Resuelve el laberinto de forma rápida, sin animación.
+     * Convierte la matriz a su forma compacta y usa el motor BFS sobre índices.
      * @param mazeGrid La matriz 2D de celdas que representa el laberinto.
      * @param start La celda de inicio.
      * @param end La celda de destino.
@@ -30,38 +39,111 @@ public class MazeSolverBFS implements MazeSolver {
      */
     @Override
     public List<Cell> solve(Cell[][] mazeGrid, Cell start, Cell end) {
-        Queue<Cell> localQueue = new LinkedList<>();
-        boolean[][] localVisited = new boolean[mazeGrid.length][mazeGrid[0].length];
+        PackedMaze packed = PackedMaze.fromCells(mazeGrid);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, mazeGrid);
+    }
 
-        start.setParent(null);
-        localQueue.add(start);
-        localVisited[start.getRow()][start.getCol()] = true;
+    /**
+     * Motor BFS de alto rendimiento sobre el laberinto compacto.
+     * La frontera es un búfer circular de enteros (índices lineales) preasignado y los
+     * padres se guardan en un arreglo int[], así que expandir una celda no crea ningún objeto.
+     * El camino solo se reconstruye al final, siguiendo el arreglo de predecesores.
+     * @param context El contexto de esta búsqueda (laberinto, inicio, destino y padres).
+     * @return Los índices del camino más corto, o un arreglo vacío si no hay solución.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        final PackedMaze maze = context.getMaze();
+        final int start = context.getStart();
+        final int end = context.getEnd();
+        final int rows = maze.getRows();
+        final int cols = maze.getCols();
+        final int size = maze.size();
+        final long[] walls = maze.getWords();
+
+        // parent[i] == -1 significa "no visitada"; la celda inicial es su propio padre.
+        int[] parent = context.parents();
+        // Cada celda entra a la cola como máximo una vez, así que n posiciones bastan.
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+
+        parent[start] = start;
+        queue[tail++] = start;
+        // Estadísticas: el nivel actual termina en la posición levelEnd de la cola.
+        int level = 0;
+        int levelEnd = tail;
+        int peakFrontier = 1;
+
+        long nextCheck = context.firstCheckpoint();
+        while (head != tail) {
+            if (head == levelEnd) {
+                level++;
+                levelEnd = tail;
+            }
+            int current = queue[head++];
+            if (head == nextCheck) {
+                nextCheck = context.checkpoint(head); // Cancelación, límites y progreso
+            }
+            if (current == end) {
+                recordStats(context, head, tail, peakFrontier, level);
+                return context.reconstructPath(end);
+            }
 
-        while (!localQueue.isEmpty()) {
-            Cell current = localQueue.poll();
+            int row = current / cols;
+            int col = current - row * cols;
 
-            if (current.equals(end)) {
-                return reconstructPath(current);
+            // Abajo
+            if (row + 1 < rows) {
+                int n = current + cols;
+                if (parent[n] < 0 && (walls[n >>> 6] & (1L << n)) == 0) {
+                    parent[n] = current;
+                    queue[tail++] = n;
+                }
+            }
+            // Arriba
+            if (row > 0) {
+                int n = current - cols;
+                if (parent[n] < 0 && (walls[n >>> 6] & (1L << n)) == 0) {
+                    parent[n] = current;
+                    queue[tail++] = n;
+                }
+            }
+            // Derecha
+            if (col + 1 < cols) {
+                int n = current + 1;
+                if (parent[n] < 0 && (walls[n >>> 6] & (1L << n)) == 0) {
+                    parent[n] = current;
+                    queue[tail++] = n;
+                }
             }
-            
-            int[] dr = {1, -1, 0, 0}; // Abajo, Arriba, Derecha, Izquierda
-            int[] dc = {0, 0, 1, -1};
-
-            for (int i = 0; i < 4; i++) {
-                int nRow = current.getRow() + dr[i];
-                int nCol = current.getCol() + dc[i];
-
-                if (nRow >= 0 && nCol >= 0 && nRow < mazeGrid.length && nCol < mazeGrid[0].length &&
-                        !localVisited[nRow][nCol] && mazeGrid[nRow][nCol].getState() != CellState.WALL) {
-                    
-                    localVisited[nRow][nCol] = true;
-                    Cell neighbor = mazeGrid[nRow][nCol];
-                    neighbor.setParent(current);
-                    localQueue.add(neighbor);
+            // Izquierda
+            if (col > 0) {
+                int n = current - 1;
+                if (parent[n] < 0 && (walls[n >>> 6] & (1L << n)) == 0) {
+                    parent[n] = current;
+                    queue[tail++] = n;
                 }
             }
+            if (tail - head > peakFrontier) {
+                peakFrontier = tail - head;
+            }
         }
-        return Collections.emptyList();
+        recordStats(context, head, tail, peakFrontier, level);
+        return new int[0];
+    }
+
+    /**
+     * Vuelca los contadores locales del bucle en las estadísticas del contexto (una sola vez,
+     * al final, para no tocar memoria compartida en cada expansión).
+     */
+    private static void recordStats(SearchContext context, int expanded, int enqueued, int peakFrontier, int depth) {
+        SearchStats stats = context.getStats();
+        stats.addExpanded(expanded);
+        stats.addEnqueued(enqueued);
+        stats.updatePeakFrontier(peakFrontier);
+        stats.updateMaxDepth(depth);
     }
 
     /**
@@ -77,15 +159,11 @@ public class MazeSolverBFS implements MazeSolver {
         this.finalPath = Collections.emptyList();
         this.finished = false;
 
-        // Reset parents for all cells to ensure a clean slate for new searches.
-        // This is important because Cell objects are reused in the mazeGrid.
-        for (int r = 0; r < maze.length; r++) {
-            for (int c = 0; c < maze[0].length; c++) {
-                maze[r][c].setParent(null);
-            }
-        }
+        // Los padres se guardan en el contexto de esta sesión, no en las celdas compartidas.
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.stepContext = new SearchContext(packed, packed.index(start), packed.index(end));
+        stepContext.parents()[stepContext.getStart()] = stepContext.getStart(); // La celda inicial es la raíz.
 
-        startCell.setParent(null); // La celda inicial no tiene padre.
         queue.add(startCell);
         visited[startCell.getRow()][startCell.getCol()] = true;
     }
@@ -110,19 +188,16 @@ public class MazeSolverBFS implements MazeSolver {
         }
         
         // Explora vecinos y los añade a la cola.
-        int[] dr = {1, -1, 0, 0}; // Abajo, Arriba, Derecha, Izquierda
-        int[] dc = {0, 0, 1, -1};
-
         for (int i = 0; i < 4; i++) {
-            int nRow = current.getRow() + dr[i];
-            int nCol = current.getCol() + dc[i];
+            int nRow = current.getRow() + DR[i];
+            int nCol = current.getCol() + DC[i];
 
             if (nRow >= 0 && nCol >= 0 && nRow < mazeGrid.length && nCol < mazeGrid[0].length &&
                     !visited[nRow][nCol] && mazeGrid[nRow][nCol].getState() != CellState.WALL) {
                 
                 visited[nRow][nCol] = true;
                 Cell neighbor = mazeGrid[nRow][nCol];
-                neighbor.setParent(current);
+                recordParent(neighbor, current);
                 queue.add(neighbor);
             }
         }
@@ -146,20 +221,22 @@ public class MazeSolverBFS implements MazeSolver {
         return finalPath;
     }
 
+    /**
+     * Registra el padre de una celda en el contexto de la sesión, sin modificar la celda.
+     */
+    private void recordParent(Cell cell, Cell parent) {
+        PackedMaze packed = stepContext.getMaze();
+        stepContext.parents()[packed.index(cell)] = packed.index(parent);
+    }
+
     /**
      * Reconstruye el camino desde la celda final hasta la inicial, siguiendo los "padres".
      * @param endCell La celda final encontrada por el algoritmo.
      * @return La lista de celdas que componen el camino, en orden de inicio a fin.
      */
     private List<Cell> reconstructPath(Cell cell) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = cell;
-        while (current != null) {
-            path.add(current);
-            current = current.getParent(); // Se mueve hacia atrás, al padre de la celda actual.
-        }
-        Collections.reverse(path); // Se invierte la lista para tener el camino en el orden correcto.
-        return path;
+        int[] path = stepContext.reconstructPath(stepContext.getMaze().index(cell));
+        return PackedMaze.toCellPath(path, mazeGrid);
     }
 
     // ELIMINADO: El método solveStepByStep con Consumer ya no forma parte de la interfaz MazeSolver.
@@ -0,0 +1,242 @@
+package solver.solverImpl;
+
+import java.util.Collections;
+import java.util.List;
+import models.Cell;
+import models.PackedMaze;
+import models.SearchStats;
+import solver.MazeSolver;
+import solver.SearchContext;
+
+/**
+ * Resuelve el laberinto con una Búsqueda en Amplitud bidireccional.
+ * Lanza dos BFS a la vez, una desde el inicio y otra desde el destino, y se detiene
+ * cuando las dos "ondas" se tocan. Cada onda solo necesita llegar a la mitad de la
+ * distancia, así que se exploran muchas menos celdas que con un BFS normal.
+ * Las ondas avanzan por niveles completos (siempre la más pequeña primero), lo que
+ * garantiza que el camino encontrado sea el más corto.
+ */
+public class MazeSolverBidirectionalBFS implements MazeSolver {
+
+    // Estado del modo paso a paso
+    private Cell[][] mazeGrid;
+    private Search stepSearch;
+    private List<Cell> finalPath;
+    private boolean finished;
+
+    /**
+     * Resuelve el laberinto de forma rápida, sin animación.
+     */
+    @Override
+    public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto directamente sobre la representación compacta.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        Search search = new Search(context);
+        long nextCheck = context.firstCheckpoint();
+        for (long steps = 1; search.step() >= 0; steps++) {
+            // Se avanza hasta que las ondas se encuentran o una se agota.
+            if (steps == nextCheck) {
+                nextCheck = context.checkpoint(steps); // Cancelación, límites y progreso
+            }
+        }
+        return search.path;
+    }
+
+    /**
+     * Inicializa el algoritmo para una ejecución paso a paso (manual).
+     */
+    @Override
+    public void initializeStepByStep(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.mazeGrid = maze;
+        this.stepSearch = new Search(new SearchContext(packed, packed.index(start), packed.index(end)));
+        this.finalPath = Collections.emptyList();
+        this.finished = false;
+    }
+
+    /**
+     * Ejecuta un solo paso: expande una celda de la onda que está avanzando su nivel.
+     * Al alternar de onda en cada nivel se ven crecer las dos a la vez.
+     * @return La celda expandida en este paso, o null si la búsqueda ha terminado.
+     */
+    @Override
+    public Cell doStep() {
+        if (finished) {
+            return null;
+        }
+        int expanded = stepSearch.step();
+        if (stepSearch.done) {
+            finalPath = PackedMaze.toCellPath(stepSearch.path, mazeGrid);
+            finished = true;
+        }
+        if (expanded < 0) {
+            return null;
+        }
+        int cols = mazeGrid[0].length;
+        return mazeGrid[expanded / cols][expanded % cols];
+    }
+
+    /**
+     * Verifica si la búsqueda paso a paso ha terminado.
+     */
+    @Override
+    public boolean isStepByStepFinished() {
+        return finished;
+    }
+
+    /**
+     * Devuelve el camino final después de la búsqueda paso a paso.
+     */
+    @Override
+    public List<Cell> getFinalPath() {
+        return finalPath;
+    }
+
+    /**
+     * Estado de una búsqueda bidireccional. Cada celda descubierta pertenece a una sola
+     * onda, por lo que basta un arreglo de padres y uno de distancias compartidos.
+     */
+    private static class Search {
+        private static final byte NONE = 0;
+        private static final byte FORWARD = 1;  // Descubierta desde el inicio
+        private static final byte BACKWARD = 2; // Descubierta desde el destino
+
+        private final PackedMaze maze;
+        private final SearchStats stats;
+        private final byte[] side;
+        private final int[] parent; // Hacia el inicio (onda directa) o hacia el destino (onda inversa)
+        private final int[] dist;   // Distancia a la raíz de su onda
+        private final int[] forwardQueue;
+        private final int[] backwardQueue;
+        private int forwardHead, forwardTail;
+        private int backwardHead, backwardTail;
+
+        private boolean forwardTurn; // Qué onda está expandiendo su nivel actual
+        private int levelEnd;        // Posición de la cola donde termina el nivel actual
+        private boolean levelActive;
+
+        private int meetForward = -1;  // Mejor contacto encontrado: celda de la onda directa...
+        private int meetBackward = -1; // ...y su vecina de la onda inversa
+        private int meetLength = Integer.MAX_VALUE;
+
+        private int[] path = new int[0];
+        private boolean done;
+
+        Search(SearchContext context) {
+            this.maze = context.getMaze();
+            this.stats = context.getStats();
+            int size = maze.size();
+            this.side = new byte[size];
+            this.parent = context.parents();
+            this.dist = context.distances();
+            this.forwardQueue = new int[size];
+            this.backwardQueue = new int[size];
+
+            int start = context.getStart();
+            int end = context.getEnd();
+            if (start == end) {
+                path = new int[]{start};
+                done = true;
+                return;
+            }
+            discover(start, start, 0, FORWARD);
+            discover(end, end, 0, BACKWARD);
+        }
+
+        /**
+         * Expande una celda del nivel actual.
+         * @return El índice de la celda expandida, o -1 si la búsqueda ya terminó.
+         */
+        int step() {
+            if (done) {
+                return -1;
+            }
+            if (!levelActive) {
+                int forwardSize = forwardTail - forwardHead;
+                int backwardSize = backwardTail - backwardHead;
+                if (forwardSize == 0 || backwardSize == 0) {
+                    done = true; // Una onda se agotó sin tocar a la otra: no hay camino.
+                    return -1;
+                }
+                forwardTurn = forwardSize <= backwardSize;
+                levelEnd = forwardTurn ? forwardTail : backwardTail;
+                levelActive = true;
+            }
+
+            int current = forwardTurn ? forwardQueue[forwardHead++] : backwardQueue[backwardHead++];
+            byte mySide = forwardTurn ? FORWARD : BACKWARD;
+            stats.addExpanded(1);
+            int cols = maze.getCols();
+            int row = current / cols;
+            int col = current - row * cols;
+            // Abajo, Arriba, Derecha, Izquierda
+            if (row + 1 < maze.getRows()) visit(current, current + cols, mySide);
+            if (row > 0) visit(current, current - cols, mySide);
+            if (col + 1 < cols) visit(current, current + 1, mySide);
+            if (col > 0) visit(current, current - 1, mySide);
+
+            int head = forwardTurn ? forwardHead : backwardHead;
+            if (head == levelEnd) {
+                levelActive = false;
+                // Solo se termina al cerrar el nivel: así se elige el contacto más corto de todo el nivel.
+                if (meetForward >= 0) {
+                    path = reconstructPath();
+                    done = true;
+                }
+            }
+            return current;
+        }
+
+        private void visit(int from, int neighbor, byte mySide) {
+            if (maze.isWall(neighbor)) {
+                return;
+            }
+            byte other = side[neighbor];
+            if (other == NONE) {
+                discover(neighbor, from, dist[from] + 1, mySide);
+            } else if (other != mySide) {
+                int length = dist[from] + 1 + dist[neighbor];
+                if (length < meetLength) {
+                    meetLength = length;
+                    meetForward = mySide == FORWARD ? from : neighbor;
+                    meetBackward = mySide == FORWARD ? neighbor : from;
+                }
+            }
+        }
+
+        private void discover(int cell, int from, int distance, byte mySide) {
+            side[cell] = mySide;
+            parent[cell] = from;
+            dist[cell] = distance;
+            if (mySide == FORWARD) {
+                forwardQueue[forwardTail++] = cell;
+            } else {
+                backwardQueue[backwardTail++] = cell;
+            }
+            stats.addEnqueued(1);
+            stats.updateMaxDepth(distance);
+            stats.updatePeakFrontier((forwardTail - forwardHead) + (backwardTail - backwardHead));
+        }
+
+        private int[] reconstructPath() {
+            int[] result = new int[meetLength + 1];
+            // Mitad directa: desde el punto de contacto hacia atrás hasta el inicio.
+            for (int i = meetForward, k = dist[meetForward]; k >= 0; i = parent[i], k--) {
+                result[k] = i;
+            }
+            // Mitad inversa: desde el contacto hacia adelante hasta el destino.
+            for (int i = meetBackward, k = dist[meetForward] + 1; k < result.length; i = parent[i], k++) {
+                result[k] = i;
+            }
+            return result;
+        }
+    }
+}
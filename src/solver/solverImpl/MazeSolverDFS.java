@@ -7,7 +7,9 @@ import java.util.Stack; // Usamos Stack para simular el comportamiento de la rec
 import java.util.function.Consumer; // Aunque ya no se usa directamente para el step, la mantenemos por consistencia con otros solvers si la usaran.
 import models.Cell;
 import models.CellState;
+import models.PackedMaze;
 import solver.MazeSolver;
+import solver.SearchContext;
 
 /**
  * Resuelve el laberinto utilizando el algoritmo de Búsqueda en Profundidad (DFS).
@@ -23,9 +25,16 @@ public class MazeSolverDFS implements MazeSolver {
     private Cell endCell;
     private List<Cell> finalPath;
     private boolean finished;
+    private SearchContext stepContext; // Padres de la sesión paso a paso (indexados por celda)
+
+    // Orden de exploración: Abajo, Arriba, Derecha, Izquierda
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
 
     /**
      * Resuelve el laberinto de forma rápida, sin animación.
+     * Usa la búsqueda iterativa sobre el laberinto compacto: explora en el mismo orden que la
+     * versión recursiva y devuelve el mismo camino, pero funciona en laberintos de millones de celdas.
      * @param maze La matriz 2D de celdas que representa el laberinto.
      * @param start La celda de inicio.
      * @param end La celda de destino.
@@ -33,6 +42,25 @@ public class MazeSolverDFS implements MazeSolver {
      */
     @Override
     public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto directamente sobre la representación compacta, con pila explícita.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        return IterativeDepthFirst.search(context, DR, DC);
+    }
+
+    /**
+     * Versión recursiva original del algoritmo. Se conserva como referencia didáctica y para
+     * comparar resultados con la versión iterativa: recorre las celdas en el mismo orden, pero
+     * hace una llamada por celda y puede provocar StackOverflowError en corredores muy largos.
+     */
+    public List<Cell> solveRecursive(Cell[][] maze, Cell start, Cell end) {
         List<Cell> path = new ArrayList<>();
         boolean[][] localVisited = new boolean[maze.length][maze[0].length];
         
@@ -69,12 +97,9 @@ public class MazeSolverDFS implements MazeSolver {
         
         // --- Paso Recursivo ---
         // Se define el orden de exploración para coincidir con el del profesor: Abajo, Arriba, Derecha, Izquierda.
-        int[] dr = {1, -1, 0, 0};
-        int[] dc = {0, 0, 1, -1};
-
         for (int i = 0; i < 4; i++) {
-            int nRow = row + dr[i];
-            int nCol = col + dc[i];
+            int nRow = row + DR[i];
+            int nCol = col + DC[i];
 
             if (nRow >= 0 && nCol >= 0 && nRow < maze.length && nCol < maze[0].length) {
                 Cell neighbor = maze[nRow][nCol];
@@ -103,12 +128,10 @@ public class MazeSolverDFS implements MazeSolver {
         this.finalPath = Collections.emptyList();
         this.finished = false;
 
-        // Reset parents for all cells to ensure a clean slate for new searches.
-        for (int r = 0; r < maze.length; r++) {
-            for (int c = 0; c < maze[0].length; c++) {
-                maze[r][c].setParent(null);
-            }
-        }
+        // Los padres se guardan en el contexto de esta sesión, no en las celdas compartidas.
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.stepContext = new SearchContext(packed, packed.index(start), packed.index(end));
+        stepContext.parents()[stepContext.getStart()] = stepContext.getStart(); // La celda inicial es la raíz.
 
         stack.push(startCell);
         visited[startCell.getRow()][startCell.getCol()] = true;
@@ -144,21 +167,18 @@ public class MazeSolverDFS implements MazeSolver {
         // Se define el orden de exploración: Abajo, Arriba, Derecha, Izquierda.
         // Para DFS iterativo con Stack, los últimos en añadir son los primeros en procesar (LIFO).
         // Si queremos procesar Abajo PRIMERO, lo añadimos ÚLTIMO a la pila.
-        int[] dr = {1, -1, 0, 0}; // Abajo, Arriba, Derecha, Izquierda
-        int[] dc = {0, 0, 1, -1};
-
         // Recorrer en orden inverso para que los de mayor prioridad se queden arriba de la pila
         // Es decir, si queremos Abajo, Derecha, Arriba, Izquierda, añadimos Izquierda, Arriba, Derecha, Abajo.
         for (int i = 3; i >= 0; i--) { // Iteramos de Izquierda a Abajo
-            int nRow = current.getRow() + dr[i];
-            int nCol = current.getCol() + dc[i];
+            int nRow = current.getRow() + DR[i];
+            int nCol = current.getCol() + DC[i];
 
             if (nRow >= 0 && nCol >= 0 && nRow < mazeGrid.length && nCol < mazeGrid[0].length &&
                     !visited[nRow][nCol] && mazeGrid[nRow][nCol].getState() != CellState.WALL) {
                 
                 visited[nRow][nCol] = true; // Marca como visitado al añadir a la pila
                 Cell neighbor = mazeGrid[nRow][nCol];
-                neighbor.setParent(current); // Establece el padre para reconstruir el camino
+                recordParent(neighbor, current);
                 stack.push(neighbor); // Añade el vecino a la pila.
             }
         }
@@ -181,20 +201,22 @@ public class MazeSolverDFS implements MazeSolver {
         return finalPath;
     }
 
+    /**
+     * Registra el padre de una celda en el contexto de la sesión, sin modificar la celda.
+     */
+    private void recordParent(Cell cell, Cell parent) {
+        PackedMaze packed = stepContext.getMaze();
+        stepContext.parents()[packed.index(cell)] = packed.index(parent);
+    }
+
     /**
      * Reconstruye el camino desde la celda final hasta la inicial, siguiendo los "padres".
      * @param endCell La celda final encontrada por el algoritmo.
      * @return La lista de celdas que componen el camino, en orden de inicio a fin.
      */
     private List<Cell> reconstructPath(Cell cell) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = cell;
-        while (current != null) {
-            path.add(current);
-            current = current.getParent(); // Se mueve hacia atrás, al padre de la celda actual.
-        }
-        Collections.reverse(path); // Se invierte la lista para tener el camino en el orden correcto.
-        return path;
+        int[] path = stepContext.reconstructPath(stepContext.getMaze().index(cell));
+        return PackedMaze.toCellPath(path, mazeGrid);
     }
 
     // ELIMINADO: El método solveStepByStep con Consumer ya no forma parte de la interfaz MazeSolver.
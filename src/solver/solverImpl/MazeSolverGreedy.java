@@ -0,0 +1,35 @@
+package solver.solverImpl;
+
+import solver.Heuristic;
+
+/**
+ * Resuelve el laberinto con una búsqueda voraz "primero el mejor" (Greedy Best-First).
+ * Funciona igual que A*, pero ordena la cola solo por la heurística h (ignora la distancia
+ * ya recorrida). Suele expandir todavía menos celdas que A*, a cambio de no garantizar
+ * el camino más corto.
+ */
+public class MazeSolverGreedy extends MazeSolverAStar {
+
+    /**
+     * Crea el solucionador con la heurística Manhattan.
+     */
+    public MazeSolverGreedy() {
+        super();
+    }
+
+    /**
+     * Crea el solucionador con la heurística indicada.
+     * @param heuristic La heurística de distancia a usar.
+     */
+    public MazeSolverGreedy(Heuristic heuristic) {
+        super(heuristic);
+    }
+
+    /**
+     * La prioridad es únicamente la estimación hasta el destino.
+     */
+    @Override
+    protected long priority(long g, int h) {
+        return h;
+    }
+}
@@ -0,0 +1,535 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import models.Cell;
+import models.PackedMaze;
+import solver.MazeSolver;
+import solver.SearchCancelledException;
+import solver.SearchContext;
+
+/**
+ * Resuelve el laberinto con Jump Point Search (JPS) en su variante de 4 direcciones.
+ * En una cuadrícula abierta hay muchísimos caminos más cortos equivalentes (se puede bajar
+ * y luego girar, o girar y luego bajar), y BFS o A* expanden todas esas celdas simétricas.
+ * JPS fija un orden canónico (primero en vertical, después en horizontal) y, en lugar de
+ * meter en la cola cada vecina, "salta" en línea recta hasta la siguiente celda donde el
+ * camino podría tener que girar: el destino, una celda con una vecina forzada (una que
+ * aparece tras un obstáculo) o, al saltar en vertical, una fila desde la que un salto
+ * horizontal encuentra algo. Solo esos puntos de salto entran en la cola de A*.
+ *
+ * Los saltos horizontales leen los muros de 64 en 64 columnas directamente del arreglo de
+ * bits del laberinto, así que cruzar una zona abierta cuesta muy poco.
+ * Como A* con Manhattan, devuelve un camino más corto; cada punto de salto recuerda el
+ * anterior y el camino se rellena celda a celda al final.
+ */
+public class MazeSolverJPS implements MazeSolver {
+
+    // Estado del modo paso a paso
+    private Cell[][] mazeGrid;
+    private Search stepSearch;
+    private List<Cell> finalPath;
+    private boolean finished;
+
+    /**
+     * Resuelve el laberinto de forma rápida, sin animación.
+     */
+    @Override
+    public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto directamente sobre la representación compacta. Si la búsqueda se
+     * detiene antes de terminar, deja lo recorrido en los arreglos del contexto (ver
+     * {@link Search#publish()}).
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        Search search = new Search(context);
+        long nextCheck = context.firstCheckpoint();
+        try {
+            for (long steps = 1; search.step() >= 0; steps++) {
+                if (steps == nextCheck) {
+                    nextCheck = context.checkpoint(steps); // Cancelación, límites y progreso
+                }
+            }
+        } catch (SearchCancelledException e) {
+            search.publish();
+            throw e;
+        }
+        return search.path;
+    }
+
+    /**
+     * Inicializa el algoritmo para una ejecución paso a paso (manual).
+     */
+    @Override
+    public void initializeStepByStep(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.mazeGrid = maze;
+        this.stepSearch = new Search(new SearchContext(packed, packed.index(start), packed.index(end)));
+        this.finalPath = Collections.emptyList();
+        this.finished = false;
+    }
+
+    /**
+     * Ejecuta un solo paso: expande el siguiente punto de salto de la cola.
+     * @return El punto de salto expandido, o null si la búsqueda ha terminado.
+     */
+    @Override
+    public Cell doStep() {
+        if (finished) {
+            return null;
+        }
+        int expanded = stepSearch.step();
+        if (stepSearch.done) {
+            finalPath = PackedMaze.toCellPath(stepSearch.path, mazeGrid);
+            finished = true;
+        }
+        if (expanded < 0) {
+            return null;
+        }
+        int cols = mazeGrid[0].length;
+        return mazeGrid[expanded / cols][expanded % cols];
+    }
+
+    /**
+     * Verifica si la búsqueda paso a paso ha terminado.
+     */
+    @Override
+    public boolean isStepByStepFinished() {
+        return finished;
+    }
+
+    /**
+     * Devuelve el camino final después de la búsqueda paso a paso.
+     */
+    @Override
+    public List<Cell> getFinalPath() {
+        return finalPath;
+    }
+
+    /**
+     * Estado de una búsqueda concreta, como en {@link MazeSolverAStar}, pero la cola solo
+     * contiene puntos de salto. Como son muy pocos comparados con las celdas, el estado no
+     * usa arreglos del tamaño del laberinto (crearlos costaría más que la propia búsqueda en
+     * un mapa abierto): g, el punto de salto anterior y la marca de cerrado viven en una
+     * tabla hash pequeña, y la cola es un montículo con borrado perezoso.
+     */
+    private static final class Search {
+        private final SearchContext context;
+        private final long[] words;
+        private final int rows;
+        private final int cols;
+        private final int end;
+        private final int endRow;
+        private final int endCol;
+        private final JumpPoints points = new JumpPoints();
+        private long[] heapKeys = new long[64]; // (g + h) << 32 | h: menor f y, a igual f, menor h
+        private int[] heapCells = new int[64];
+        private int heapSize;
+        private int[] path = new int[0];
+        private boolean done;
+
+        Search(SearchContext context) {
+            PackedMaze maze = context.getMaze();
+            this.context = context;
+            this.words = maze.getWords();
+            this.rows = maze.getRows();
+            this.cols = maze.getCols();
+            this.end = context.getEnd();
+            this.endRow = end / cols;
+            this.endCol = end % cols;
+
+            int start = context.getStart();
+            int slot = points.slotFor(start);
+            points.g[slot] = 0;
+            points.from[slot] = start;
+            push(start, 0);
+        }
+
+        /**
+         * Expande el siguiente punto de salto de la cola.
+         * @return El índice de la celda expandida, o -1 si ya no hay nada que expandir.
+         */
+        int step() {
+            if (done) {
+                return -1;
+            }
+            int current = -1;
+            int slot = -1;
+            while (heapSize > 0) {
+                long key = heapKeys[0];
+                int cell = poll();
+                slot = points.find(cell);
+                // Entradas viejas: la celda ya se cerró o luego se encoló con una g menor.
+                if (!points.closed[slot] && key == key(cell, points.g[slot])) {
+                    current = cell;
+                    break;
+                }
+            }
+            if (current < 0) {
+                done = true;
+                return -1;
+            }
+            points.closed[slot] = true;
+            int currentG = points.g[slot];
+            int from = points.from[slot];
+            context.getStats().addExpanded(1);
+            context.getStats().updateMaxDepth(currentG);
+            if (current == end) {
+                path = fillPath();
+                done = true;
+                return current;
+            }
+
+            int row = current / cols;
+            int col = current - row * cols;
+            if (from == current) {
+                // Desde el inicio se salta en las cuatro direcciones: Abajo, Arriba, Derecha, Izquierda.
+                relax(current, currentG, jumpVertical(row, col, 1));
+                relax(current, currentG, jumpVertical(row, col, -1));
+                relax(current, currentG, jumpHorizontal(row, col, 1));
+                relax(current, currentG, jumpHorizontal(row, col, -1));
+            } else if (from % cols == col) {
+                // Se llegó en vertical: se sigue en la misma dirección o se gira.
+                relax(current, currentG, jumpVertical(row, col, from < current ? 1 : -1));
+                relax(current, currentG, jumpHorizontal(row, col, 1));
+                relax(current, currentG, jumpHorizontal(row, col, -1));
+            } else {
+                // Se llegó en horizontal: se sigue en la misma dirección o se gira.
+                relax(current, currentG, jumpHorizontal(row, col, from < current ? 1 : -1));
+                relax(current, currentG, jumpVertical(row, col, 1));
+                relax(current, currentG, jumpVertical(row, col, -1));
+            }
+            return current;
+        }
+
+        private void relax(int from, int fromG, int jumpPoint) {
+            if (jumpPoint < 0) {
+                return;
+            }
+            int slot = points.slotFor(jumpPoint);
+            if (points.closed[slot]) {
+                return;
+            }
+            int nextG = fromG + Math.abs(jumpPoint / cols - from / cols) + Math.abs(jumpPoint % cols - from % cols);
+            if (points.g[slot] < 0 || nextG < points.g[slot]) {
+                points.g[slot] = nextG;
+                points.from[slot] = from;
+                push(jumpPoint, nextG);
+            }
+        }
+
+        private long key(int cell, int steps) {
+            int h = Math.abs(endRow - cell / cols) + Math.abs(endCol - cell % cols);
+            return ((long) (steps + h) << 32) | h;
+        }
+
+        private void push(int cell, int steps) {
+            if (heapSize == heapKeys.length) {
+                heapKeys = Arrays.copyOf(heapKeys, heapSize << 1);
+                heapCells = Arrays.copyOf(heapCells, heapSize << 1);
+            }
+            long key = key(cell, steps);
+            int pos = heapSize++;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (heapKeys[parent] <= key) {
+                    break;
+                }
+                heapKeys[pos] = heapKeys[parent];
+                heapCells[pos] = heapCells[parent];
+                pos = parent;
+            }
+            heapKeys[pos] = key;
+            heapCells[pos] = cell;
+            context.getStats().addEnqueued(1);
+            context.getStats().updatePeakFrontier(heapSize);
+        }
+
+        private int poll() {
+            int top = heapCells[0];
+            int last = --heapSize;
+            long key = heapKeys[last];
+            int cell = heapCells[last];
+            int pos = 0;
+            int half = heapSize >>> 1;
+            while (pos < half) {
+                int child = (pos << 1) + 1;
+                if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                    child++;
+                }
+                if (heapKeys[child] >= key) {
+                    break;
+                }
+                heapKeys[pos] = heapKeys[child];
+                heapCells[pos] = heapCells[child];
+                pos = child;
+            }
+            heapKeys[pos] = key;
+            heapCells[pos] = cell;
+            return top;
+        }
+
+        /**
+         * Salta en vertical desde (row, col). Se detiene en el destino, en una celda con una
+         * vecina forzada a los lados o en una fila desde la que algún salto horizontal llega
+         * a un punto de salto (el camino canónico gira ahí).
+         * @return El punto de salto, o -1 si se llegó a un muro o al borde sin encontrar ninguno.
+         */
+        private int jumpVertical(int row, int col, int dRow) {
+            for (int r = row + dRow; r >= 0 && r < rows; r += dRow) {
+                if (isWall(r, col)) {
+                    return -1;
+                }
+                int cell = r * cols + col;
+                if (cell == end) {
+                    return cell;
+                }
+                int back = r - dRow;
+                if ((col > 0 && !isWall(r, col - 1) && isWall(back, col - 1))
+                        || (col + 1 < cols && !isWall(r, col + 1) && isWall(back, col + 1))) {
+                    return cell;
+                }
+                if (jumpHorizontal(r, col, 1) >= 0 || jumpHorizontal(r, col, -1) >= 0) {
+                    return cell;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Salta en horizontal desde (row, col). Se detiene en el destino o en una celda cuya
+         * vecina de arriba o de abajo está abierta mientras que la de la columna anterior era
+         * muro (vecina forzada). Revisa 64 columnas por iteración con operaciones de bits.
+         * @return El punto de salto, o -1 si se llegó a un muro o al borde sin encontrar ninguno.
+         */
+        private int jumpHorizontal(int row, int col, int dCol) {
+            boolean endInRow = row == endRow;
+            if (dCol > 0) {
+                for (int c = col + 1; c < cols; c += 64) {
+                    // Bit i = columna c + i.
+                    long stop = rowBits(row, c);
+                    if (row > 0) {
+                        stop |= ~rowBits(row - 1, c) & rowBits(row - 1, c - 1);
+                    }
+                    if (row + 1 < rows) {
+                        stop |= ~rowBits(row + 1, c) & rowBits(row + 1, c - 1);
+                    }
+                    if (endInRow && endCol >= c && endCol - c < 64) {
+                        stop |= 1L << (endCol - c);
+                    }
+                    if (stop != 0) {
+                        return jumpPointAt(row, c + Long.numberOfTrailingZeros(stop));
+                    }
+                }
+            } else {
+                for (int c = col - 1; c >= 0; c -= 64) {
+                    // Bit i = columna c - 63 + i; se busca el bit más alto (el más cercano).
+                    int first = c - 63;
+                    long stop = rowBits(row, first);
+                    if (row > 0) {
+                        stop |= ~rowBits(row - 1, first) & rowBits(row - 1, first + 1);
+                    }
+                    if (row + 1 < rows) {
+                        stop |= ~rowBits(row + 1, first) & rowBits(row + 1, first + 1);
+                    }
+                    if (endInRow && endCol <= c && c - endCol < 64) {
+                        stop |= 1L << (endCol - first);
+                    }
+                    if (stop != 0) {
+                        return jumpPointAt(row, first + 63 - Long.numberOfLeadingZeros(stop));
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Primera celda en la que se detuvo un salto horizontal: si es muro (o el borde) no
+         * hay punto de salto.
+         */
+        private int jumpPointAt(int row, int col) {
+            return col < 0 || col >= cols || isWall(row, col) ? -1 : row * cols + col;
+        }
+
+        /**
+         * Lee los muros de las columnas [col, col + 64) de una fila. Las columnas fuera del
+         * laberinto se leen como muro.
+         */
+        private long rowBits(int row, int col) {
+            int from = Math.max(col, 0);
+            int to = Math.min(col + 64, cols);
+            if (from >= to) {
+                return -1L;
+            }
+            int count = to - from;
+            int index = row * cols + from;
+            int word = index >>> 6;
+            int shift = index & 63;
+            long bits = words[word] >>> shift;
+            if (shift + count > 64) {
+                bits |= words[word + 1] << (64 - shift);
+            }
+            if (count < 64) {
+                bits |= -1L << count; // Lo que queda a la derecha del borde
+            }
+            int offset = from - col;
+            return offset == 0 ? bits : (bits << offset) | ((1L << offset) - 1);
+        }
+
+        private boolean isWall(int row, int col) {
+            int index = row * cols + col;
+            return (words[index >>> 6] & (1L << index)) != 0;
+        }
+
+        /**
+         * Reconstruye el camino completo: entre dos puntos de salto consecutivos el tramo es
+         * recto, así que se rellena celda a celda.
+         */
+        private int[] fillPath() {
+            int[] result = new int[points.g[points.find(end)] + 1];
+            int k = result.length - 1;
+            int current = end;
+            for (int previous = points.from[points.find(current)]; previous != current;
+                 previous = points.from[points.find(current)]) {
+                int step = segmentStep(previous, current);
+                for (int cell = current; cell != previous; cell -= step) {
+                    result[k--] = cell;
+                }
+                current = previous;
+            }
+            result[k] = current;
+            return result;
+        }
+
+        /**
+         * Copia lo recorrido a los arreglos del contexto como lo dejaría A*: cada punto de
+         * salto descubierto con su g y, celda a celda, el tramo recto que lo une con el
+         * anterior, de modo que los padres son siempre celdas vecinas. Con eso el contexto
+         * puede dar la celda alcanzada más cercana al destino y el camino parcial hasta ella.
+         * Solo se hace cuando la búsqueda se detiene antes de terminar: una búsqueda completa
+         * no necesita esos arreglos del tamaño del laberinto.
+         */
+        void publish() {
+            int[] distances = context.distances();
+            int[] parents = context.parents();
+            for (int slot = 0; slot < points.cells.length; slot++) {
+                int cell = points.cells[slot];
+                if (cell < 0 || points.g[slot] < 0) {
+                    continue;
+                }
+                int previous = points.from[slot];
+                if (previous == cell) {
+                    distances[cell] = 0;
+                    parents[cell] = cell; // El inicio es la raíz
+                    continue;
+                }
+                // Si otro tramo ya llegó a una celda con menos pasos, conserva esa distancia y
+                // ese padre; así las distancias siempre bajan hacia el inicio y no hay ciclos.
+                int step = segmentStep(previous, cell);
+                int steps = points.g[slot];
+                for (int c = cell; c != previous; c -= step, steps--) {
+                    if (distances[c] < 0 || steps < distances[c]) {
+                        distances[c] = steps;
+                        parents[c] = c - step;
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return El desplazamiento de índice de cada paso del tramo recto de previous a current.
+         */
+        private int segmentStep(int previous, int current) {
+            return previous / cols == current / cols
+                    ? (previous < current ? 1 : -1)
+                    : (previous < current ? cols : -cols);
+        }
+    }
+
+    /**
+     * Tabla hash de direccionamiento abierto (sondeo lineal) con el estado de cada punto de
+     * salto descubierto. Al crecer, las posiciones cambian: por eso la cola guarda celdas.
+     */
+    private static final class JumpPoints {
+        private int[] cells = new int[64];
+        private int[] g = new int[64];        // Pasos desde el inicio (-1 = sin camino todavía)
+        private int[] from = new int[64];     // Punto de salto anterior (no es una celda vecina)
+        private boolean[] closed = new boolean[64];
+        private int size;
+
+        JumpPoints() {
+            Arrays.fill(cells, -1);
+        }
+
+        /**
+         * @return La posición de la celda, que debe estar en la tabla.
+         */
+        int find(int cell) {
+            int mask = cells.length - 1;
+            int slot = hash(cell) & mask;
+            while (cells[slot] != cell) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * @return La posición de la celda, añadiéndola (con g = -1) si no estaba.
+         */
+        int slotFor(int cell) {
+            if ((size + 1) * 2 > cells.length) {
+                grow();
+            }
+            int mask = cells.length - 1;
+            int slot = hash(cell) & mask;
+            while (cells[slot] != cell) {
+                if (cells[slot] < 0) {
+                    cells[slot] = cell;
+                    g[slot] = -1;
+                    size++;
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldCells = cells;
+            int[] oldG = g;
+            int[] oldFrom = from;
+            boolean[] oldClosed = closed;
+            int capacity = oldCells.length << 1;
+            cells = new int[capacity];
+            Arrays.fill(cells, -1);
+            g = new int[capacity];
+            from = new int[capacity];
+            closed = new boolean[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldCells.length; i++) {
+                if (oldCells[i] < 0) {
+                    continue;
+                }
+                int slot = hash(oldCells[i]) & mask;
+                while (cells[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                cells[slot] = oldCells[i];
+                g[slot] = oldG[i];
+                from[slot] = oldFrom[i];
+                closed[slot] = oldClosed[i];
+            }
+        }
+
+        private static int hash(int cell) {
+            return (cell * 0x9E3779B9) >>> 7;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import models.Cell;
+import models.PackedMaze;
+import solver.Heuristic;
+import solver.IncrementalMazeSolver;
+import solver.SearchContext;
+
+/**
+ * Resuelve el laberinto con Lifelong Planning A* (LPA*), la versión incremental de A*.
+ * Cada celda guarda dos valores: g, la distancia que se le conoce desde el inicio, y rhs,
+ * la que le correspondería según sus vecinas (la mejor vecina + 1). Una celda es
+ * "inconsistente" cuando g != rhs, y solo esas van a la cola, ordenadas como en A* por
+ * [min(g, rhs) + h, min(g, rhs)].
+ *
+ * La primera búsqueda expande prácticamente lo mismo que A*. Cuando una celda cambia entre
+ * muro y pasillo solo se recalcula el rhs de esa celda y de sus vecinas; las inconsistencias
+ * se propagan desde ahí y la reparación se detiene en cuanto el destino vuelve a ser
+ * consistente, así que tocar un muro lejos del camino apenas cuesta unas pocas expansiones.
+ * Como el inicio y el destino son fijos en LPA*, moverlos requiere planificar de nuevo.
+ */
+public class MazeSolverLPAStar implements IncrementalMazeSolver {
+
+    private static final int INFINITE = Integer.MAX_VALUE / 2;
+
+    private final Heuristic heuristic;
+
+    // Sesión incremental (ver plan/replan)
+    private Planner session;
+
+    // Estado del modo paso a paso
+    private Cell[][] mazeGrid;
+    private Planner stepPlanner;
+    private List<Cell> finalPath;
+    private boolean finished;
+
+    /**
+     * Crea el solucionador con la heurística Manhattan.
+     */
+    public MazeSolverLPAStar() {
+        this(Heuristic.MANHATTAN);
+    }
+
+    /**
+     * @param heuristic La heurística de distancia a usar (debe ser consistente).
+     */
+    public MazeSolverLPAStar(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Resuelve el laberinto de forma rápida, sin animación.
+     */
+    @Override
+    public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve sin guardar la sesión: una búsqueda LPA* completa equivale a un A*.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        Planner planner = new Planner(context);
+        planner.run(true);
+        return planner.path;
+    }
+
+    @Override
+    public int[] plan(SearchContext context) {
+        session = null; // Si la búsqueda se interrumpe no queda una sesión a medias.
+        Planner planner = new Planner(context);
+        if (!context.isKnownUnreachable()) {
+            planner.run(true);
+        }
+        session = planner;
+        return planner.path;
+    }
+
+    @Override
+    public void onCellChanged(int row, int col) {
+        requireSession().cellChanged(session.maze.index(row, col));
+    }
+
+    @Override
+    public int[] replan() {
+        Planner planner = requireSession();
+        planner.expanded = 0;
+        planner.run(false);
+        return planner.path;
+    }
+
+    @Override
+    public long getLastExpanded() {
+        return session == null ? 0 : session.expanded;
+    }
+
+    private Planner requireSession() {
+        if (session == null) {
+            throw new IllegalStateException("No hay una planificación previa: llame primero a plan.");
+        }
+        return session;
+    }
+
+    /**
+     * Inicializa el algoritmo para una ejecución paso a paso (manual).
+     */
+    @Override
+    public void initializeStepByStep(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.mazeGrid = maze;
+        this.stepPlanner = new Planner(new SearchContext(packed, packed.index(start), packed.index(end)));
+        this.finalPath = Collections.emptyList();
+        this.finished = false;
+    }
+
+    /**
+     * Ejecuta un solo paso: saca de la cola la celda inconsistente de menor clave y la corrige.
+     * @return La celda expandida en este paso, o null si la búsqueda ha terminado.
+     */
+    @Override
+    public Cell doStep() {
+        if (finished) {
+            return null;
+        }
+        int expanded = stepPlanner.step();
+        if (expanded < 0) {
+            finalPath = PackedMaze.toCellPath(stepPlanner.path, mazeGrid);
+            finished = true;
+            return null;
+        }
+        int cols = mazeGrid[0].length;
+        return mazeGrid[expanded / cols][expanded % cols];
+    }
+
+    /**
+     * Verifica si la búsqueda paso a paso ha terminado.
+     */
+    @Override
+    public boolean isStepByStepFinished() {
+        return finished;
+    }
+
+    /**
+     * Devuelve el camino final después de la búsqueda paso a paso.
+     */
+    @Override
+    public List<Cell> getFinalPath() {
+        return finalPath;
+    }
+
+    /**
+     * Estado de LPA* sobre un laberinto. Se usa en la resolución rápida, en la sesión
+     * incremental y en el modo paso a paso, donde cada llamada a step() es un paso visible.
+     */
+    private final class Planner {
+        private final SearchContext context;
+        private final PackedMaze maze;
+        private final int start;
+        private final int end;
+        private final int endRow;
+        private final int endCol;
+        private final int[] g;   // Distancia conocida desde el inicio (INFINITE = ninguna)
+        private final int[] rhs; // Distancia según las vecinas: mínimo de g(vecina) + 1
+        private final IndexedMinHeap open;
+        private int[] path = new int[0];
+        private long expanded; // Expansiones de la última planificación o reparación
+
+        Planner(SearchContext context) {
+            this.context = context;
+            this.maze = context.getMaze();
+            this.start = context.getStart();
+            this.end = context.getEnd();
+            this.endRow = maze.row(end);
+            this.endCol = maze.col(end);
+            this.g = new int[maze.size()];
+            this.rhs = new int[maze.size()];
+            Arrays.fill(g, INFINITE);
+            Arrays.fill(rhs, INFINITE);
+            this.open = new IndexedMinHeap(maze.size());
+            updateCell(start);
+        }
+
+        /**
+         * Corrige celdas inconsistentes hasta que el destino tenga su distancia definitiva.
+         * @param checkpoints true para atender cancelación, tiempo límite y progreso del contexto;
+         *                    al terminar, o al detenerse, el árbol queda copiado en el contexto.
+         */
+        void run(boolean checkpoints) {
+            long nextCheck = context.firstCheckpoint();
+            try {
+                for (long steps = 1; step() >= 0; steps++) {
+                    if (checkpoints && steps == nextCheck) {
+                        nextCheck = context.checkpoint(steps);
+                    }
+                }
+            } finally {
+                if (checkpoints) {
+                    publish();
+                }
+            }
+        }
+
+        /**
+         * Copia g a las distancias del contexto y, como padre de cada celda alcanzada, la
+         * vecina por la que se llega a ella, igual que lo dejaría A*. Así, si la búsqueda se
+         * detiene antes de tiempo, el contexto puede dar la celda más cercana al destino y el
+         * camino parcial hasta ella.
+         */
+        private void publish() {
+            int[] distances = context.distances();
+            int[] parents = context.parents();
+            for (int cell = 0; cell < g.length; cell++) {
+                if (g[cell] >= INFINITE) {
+                    continue;
+                }
+                distances[cell] = g[cell];
+                parents[cell] = cell == start ? start : stepBack(cell);
+            }
+        }
+
+        /**
+         * Expande la siguiente celda inconsistente. Cuando ya no hace falta seguir, deja el
+         * camino actual en {@link #path}.
+         * @return El índice de la celda expandida, o -1 si la búsqueda ya terminó.
+         */
+        int step() {
+            if (open.isEmpty() || (!keyLess(open.peekKey1(), open.peekKey2(), end) && g[end] == rhs[end])) {
+                path = extractPath();
+                return -1;
+            }
+            int current = open.poll();
+            expanded++;
+            context.getStats().addExpanded(1);
+            if (g[current] > rhs[current]) {
+                // Sobreconsistente: se encontró un camino mejor, se fija y se propaga a las vecinas.
+                g[current] = rhs[current];
+                context.getStats().updateMaxDepth(g[current]);
+            } else {
+                // Subconsistente: el camino que tenía ya no vale; se olvida y se recalcula.
+                g[current] = INFINITE;
+                updateCell(current);
+            }
+            updateNeighbors(current);
+            return current;
+        }
+
+        /**
+         * Anota un cambio de muro: cambian las aristas de la celda con sus cuatro vecinas.
+         */
+        void cellChanged(int cell) {
+            updateCell(cell);
+            updateNeighbors(cell);
+        }
+
+        private void updateNeighbors(int cell) {
+            int cols = maze.getCols();
+            int row = cell / cols;
+            int col = cell - row * cols;
+            if (row + 1 < maze.getRows()) updateCell(cell + cols);
+            if (row > 0) updateCell(cell - cols);
+            if (col + 1 < cols) updateCell(cell + 1);
+            if (col > 0) updateCell(cell - 1);
+        }
+
+        /**
+         * Recalcula el rhs de la celda y la pone o la quita de la cola según quede inconsistente.
+         */
+        private void updateCell(int cell) {
+            if (maze.isWall(cell)) {
+                rhs[cell] = INFINITE;
+            } else if (cell == start) {
+                rhs[cell] = 0;
+            } else {
+                rhs[cell] = bestNeighbor(cell);
+            }
+            if (g[cell] != rhs[cell]) {
+                int m = Math.min(g[cell], rhs[cell]);
+                open.push(cell, key1(cell, m), m);
+                context.getStats().addEnqueued(1);
+                context.getStats().updatePeakFrontier(open.size());
+            } else {
+                open.remove(cell);
+            }
+        }
+
+        /**
+         * @return El menor g(vecina) + 1 entre las vecinas abiertas, o INFINITE si no hay ninguna alcanzada.
+         */
+        private int bestNeighbor(int cell) {
+            int cols = maze.getCols();
+            int row = cell / cols;
+            int col = cell - row * cols;
+            int best = INFINITE;
+            if (row + 1 < maze.getRows()) best = Math.min(best, distanceThrough(cell + cols));
+            if (row > 0) best = Math.min(best, distanceThrough(cell - cols));
+            if (col + 1 < cols) best = Math.min(best, distanceThrough(cell + 1));
+            if (col > 0) best = Math.min(best, distanceThrough(cell - 1));
+            return best;
+        }
+
+        private int distanceThrough(int neighbor) {
+            return maze.isWall(neighbor) || g[neighbor] >= INFINITE ? INFINITE : g[neighbor] + 1;
+        }
+
+        private long key1(int cell, int m) {
+            if (m >= INFINITE) {
+                return Long.MAX_VALUE;
+            }
+            return (long) m * Heuristic.UNIT + heuristic.estimate(endRow - maze.row(cell), endCol - maze.col(cell));
+        }
+
+        /**
+         * Compara una clave de la cola con la clave actual de la celda (orden lexicográfico).
+         */
+        private boolean keyLess(long k1, long k2, int cell) {
+            int m = Math.min(g[cell], rhs[cell]);
+            long cellKey1 = key1(cell, m);
+            return k1 < cellKey1 || (k1 == cellKey1 && k2 < m);
+        }
+
+        /**
+         * Reconstruye el camino desde el destino yendo siempre a la vecina con menor g:
+         * con el destino consistente, cada paso baja exactamente en 1 hasta llegar al inicio.
+         */
+        private int[] extractPath() {
+            if (g[end] >= INFINITE || maze.isWall(start)) {
+                return new int[0];
+            }
+            int[] result = new int[g[end] + 1];
+            int current = end;
+            for (int i = result.length - 1; i > 0; i--) {
+                result[i] = current;
+                int next = stepBack(current);
+                if (next < 0) {
+                    return new int[0]; // No debería ocurrir con el destino consistente.
+                }
+                current = next;
+            }
+            result[0] = current;
+            return result;
+        }
+
+        /**
+         * @return La vecina abierta cuyo g es exactamente g(celda) - 1, o -1 si no hay ninguna.
+         */
+        private int stepBack(int cell) {
+            int cols = maze.getCols();
+            int row = cell / cols;
+            int col = cell - row * cols;
+            int expectedG = g[cell] - 1;
+            if (row + 1 < maze.getRows() && isStepBack(cell + cols, expectedG)) return cell + cols;
+            if (row > 0 && isStepBack(cell - cols, expectedG)) return cell - cols;
+            if (col + 1 < cols && isStepBack(cell + 1, expectedG)) return cell + 1;
+            if (col > 0 && isStepBack(cell - 1, expectedG)) return cell - 1;
+            return -1;
+        }
+
+        private boolean isStepBack(int neighbor, int expectedG) {
+            return !maze.isWall(neighbor) && g[neighbor] == expectedG;
+        }
+    }
+}
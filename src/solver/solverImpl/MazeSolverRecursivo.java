@@ -7,7 +7,9 @@ import java.util.Stack; // Necesario para la implementación iterativa de paso a
 import java.util.function.Consumer; // Aunque ya no se usa directamente para el step, la mantenemos por consistencia con otros solvers.
 import models.Cell;
 import models.CellState;
+import models.PackedMaze;
 import solver.MazeSolver;
+import solver.SearchContext;
 
 /**
  * Resuelve el laberinto usando un enfoque recursivo simple en 2 direcciones (derecha y abajo).
@@ -23,12 +25,41 @@ public class MazeSolverRecursivo implements MazeSolver {
     private Cell endCell;
     private List<Cell> finalPath;
     private boolean finished;
+    private SearchContext stepContext; // Padres de la sesión paso a paso (indexados por celda)
+
+    // Orden de exploración: Derecha, Abajo
+    private static final int[] DR = {0, 1};
+    private static final int[] DC = {1, 0};
 
     /**
      * Resuelve el laberinto de forma rápida, sin animación.
+     * Internamente usa una pila explícita (derecha primero, luego abajo), así que el camino
+     * es el mismo que da la recursión pero no hay límite de profundidad.
+     * @param maze La matriz 2D de celdas que representa el laberinto.
+     * @param start La celda de inicio.
+     * @param end La celda de destino.
+     * @return Una lista de celdas que forman el camino. Retorna una lista vacía si no hay solución.
      */
     @Override
     public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto compacto con la búsqueda iterativa en 2 direcciones.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        return IterativeDepthFirst.search(context, DR, DC);
+    }
+
+    /**
+     * Versión recursiva original, con una llamada por celda. Se mantiene para fines didácticos
+     * y para contrastar con la versión iterativa, que produce exactamente el mismo camino.
+     */
+    public List<Cell> solveRecursive(Cell[][] maze, Cell start, Cell end) {
         List<Cell> path = new ArrayList<>();
         boolean[][] localVisited = new boolean[maze.length][maze[0].length];
         if (findPath(maze, start, end, localVisited, path)) {
@@ -86,18 +117,14 @@ public class MazeSolverRecursivo implements MazeSolver {
         this.finalPath = Collections.emptyList();
         this.finished = false;
 
-        // Reiniciar padres para todas las celdas
-        for (int r = 0; r < maze.length; r++) {
-            for (int c = 0; c < maze[0].length; c++) {
-                maze[r][c].setParent(null);
-            }
-        }
+        // Los padres se guardan en el contexto de esta sesión, no en las celdas compartidas.
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.stepContext = new SearchContext(packed, packed.index(start), packed.index(end));
+        stepContext.parents()[stepContext.getStart()] = stepContext.getStart(); // La celda inicial es la raíz.
 
         // Empieza la búsqueda desde la celda de inicio
         stack.push(startCell);
         visited[startCell.getRow()][startCell.getCol()] = true;
-        // La celda de inicio no tiene padre
-        startCell.setParent(null);
     }
 
     /**
@@ -129,7 +156,7 @@ public class MazeSolverRecursivo implements MazeSolver {
             Cell neighborDown = mazeGrid[nextRowDown][nextColDown];
             if (!visited[nextRowDown][nextColDown] && neighborDown.getState() != CellState.WALL) {
                 visited[nextRowDown][nextColDown] = true;
-                neighborDown.setParent(current);
+                recordParent(neighborDown, current);
                 stack.push(neighborDown);
             }
         }
@@ -141,7 +168,7 @@ public class MazeSolverRecursivo implements MazeSolver {
             Cell neighborRight = mazeGrid[nextRowRight][nextColRight];
             if (!visited[nextRowRight][nextColRight] && neighborRight.getState() != CellState.WALL) {
                 visited[nextRowRight][nextColRight] = true;
-                neighborRight.setParent(current);
+                recordParent(neighborRight, current);
                 stack.push(neighborRight);
             }
         }
@@ -165,20 +192,22 @@ public class MazeSolverRecursivo implements MazeSolver {
         return finalPath;
     }
 
+    /**
+     * Registra el padre de una celda en el contexto de la sesión, sin modificar la celda.
+     */
+    private void recordParent(Cell cell, Cell parent) {
+        PackedMaze packed = stepContext.getMaze();
+        stepContext.parents()[packed.index(cell)] = packed.index(parent);
+    }
+
     /**
      * Reconstruye el camino desde la celda final hasta la inicial, siguiendo los "padres".
      * @param cell La celda final encontrada por el algoritmo.
      * @return La lista de celdas que componen el camino, en orden de inicio a fin.
      */
     private List<Cell> reconstructPath(Cell cell) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = cell;
-        while (current != null) {
-            path.add(current);
-            current = current.getParent();
-        }
-        Collections.reverse(path);
-        return path;
+        int[] path = stepContext.reconstructPath(stepContext.getMaze().index(cell));
+        return PackedMaze.toCellPath(path, mazeGrid);
     }
 
     // ELIMINADO: El método solveStepByStep con Consumer ya no forma parte de la interfaz MazeSolver.
@@ -7,7 +7,9 @@ import java.util.Stack; // Necesario para la implementación iterativa de paso a
 import java.util.function.Consumer; // Aunque ya no se usa directamente para el step, la mantenemos por consistencia.
 import models.Cell;
 import models.CellState;
+import models.PackedMaze;
 import solver.MazeSolver;
+import solver.SearchContext;
 
 /**
  * Resuelve el laberinto utilizando un enfoque recursivo en 4 direcciones.
@@ -37,6 +39,7 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
     private Cell endCell;
     private List<Cell> finalPath;
     private boolean finished;
+    private SearchContext stepContext; // Padres de la sesión paso a paso (indexados por celda)
 
     // Orden de exploración: Abajo, Derecha, Arriba, Izquierda
     private final int[] dRow = {1, 0, -1, 0};
@@ -44,6 +47,8 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
 
     /**
      * Resuelve el laberinto de forma rápida, sin animación.
+     * La recursión se reemplaza por una pila explícita sobre el laberinto compacto que prueba
+     * las direcciones en el mismo orden (abajo, derecha, arriba, izquierda).
      * @param maze La matriz 2D de celdas que representa el laberinto.
      * @param start La celda de inicio.
      * @param end La celda de destino.
@@ -51,6 +56,24 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
      */
     @Override
     public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto compacto simulando la recursión con una pila de índices.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        return IterativeDepthFirst.search(context, dRow, dCol);
+    }
+
+    /**
+     * Implementación recursiva original. Devuelve el mismo camino que {@link #solve(Cell[][], Cell, Cell)},
+     * pero cada celda del camino ocupa un marco de la pila de Java.
+     */
+    public List<Cell> solveRecursive(Cell[][] maze, Cell start, Cell end) {
         List<Cell> path = new ArrayList<>();
         boolean[][] localVisited = new boolean[maze.length][maze[0].length];
         if (findPath(maze, start, end, localVisited, path)) {
@@ -108,16 +131,11 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
         this.finalPath = Collections.emptyList();
         this.finished = false;
 
-        // Reset parents for all cells to ensure a clean slate for new searches.
-        for (int r = 0; r < maze.length; r++) {
-            for (int c = 0; c < maze[0].length; c++) {
-                maze[r][c].setParent(null);
-            }
-        }
+        // Los padres se guardan en el contexto de esta sesión, no en las celdas compartidas.
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        this.stepContext = new SearchContext(packed, packed.index(start), packed.index(end));
+        stepContext.parents()[stepContext.getStart()] = stepContext.getStart(); // La celda inicial es la raíz.
 
-        // Empieza la búsqueda desde la celda de inicio
-        // La celda de inicio no tiene padre
-        startCell.setParent(null);
         callStack.push(new RecursiveStepFrame(startCell, null));
         visited[startCell.getRow()][startCell.getCol()] = true;
     }
@@ -160,7 +178,7 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
                 Cell neighbor = mazeGrid[newRow][newCol];
                 if (!visited[newRow][newCol] && neighbor.getState() != CellState.WALL) {
                     visited[newRow][newCol] = true;
-                    neighbor.setParent(current); // Establece el padre para la reconstrucción
+                    recordParent(neighbor, current);
                     callStack.push(new RecursiveStepFrame(neighbor, current)); // "Llama" recursivamente al vecino
                     return (cellToReturn != null) ? cellToReturn : current; // Retorna la celda actual o la recién visitada si ya la tenías.
                 }
@@ -189,19 +207,21 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
         return finalPath;
     }
 
+    /**
+     * Registra el padre de una celda en el contexto de la sesión, sin modificar la celda.
+     */
+    private void recordParent(Cell cell, Cell parent) {
+        PackedMaze packed = stepContext.getMaze();
+        stepContext.parents()[packed.index(cell)] = packed.index(parent);
+    }
+
     /**
      * Reconstruye el camino desde la celda final hasta la inicial, siguiendo los "padres".
      * @param cell La celda final encontrada por el algoritmo.
      * @return La lista de celdas que componen el camino, en orden de inicio a fin.
      */
     private List<Cell> reconstructPath(Cell cell) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = cell;
-        while (current != null) {
-            path.add(current);
-            current = current.getParent();
-        }
-        Collections.reverse(path);
-        return path;
+        int[] path = stepContext.reconstructPath(stepContext.getMaze().index(cell));
+        return PackedMaze.toCellPath(path, mazeGrid);
     }
 }
\ No newline at end of file
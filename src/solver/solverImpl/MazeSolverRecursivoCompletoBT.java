@@ -1,13 +1,15 @@
 package solver.solverImpl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Stack; // Necesario para la implementación iterativa de paso a paso
 import java.util.function.Consumer; // Aunque ya no se usa directamente para el step, la mantenemos por consistencia.
 import models.Cell;
 import models.CellState;
+import models.PackedMaze;
 import solver.MazeSolver;
+import solver.SearchContext;
 
 /**
  * Resuelve el laberinto utilizando un enfoque recursivo con Backtracking.
@@ -17,24 +19,16 @@ import solver.MazeSolver;
  */
 public class MazeSolverRecursivoCompletoBT implements MazeSolver {
 
-    // Clase interna para manejar el estado de la recursión en la pila para el paso a paso
-    private static class RecursiveStepFrame {
-        Cell current;
-        int neighborIndex; // Para saber qué vecino explorar a continuación
-        List<Cell> currentPathSnapshot; // Una copia del camino en este punto de la "recursión"
-
-        RecursiveStepFrame(Cell current, List<Cell> currentPathSnapshot) {
-            this.current = current;
-            this.neighborIndex = 0; // Inicia con el primer vecino
-            this.currentPathSnapshot = new ArrayList<>(currentPathSnapshot); // Copia el camino actual
-        }
-    }
-
-    private Stack<RecursiveStepFrame> callStack; // Pila que simula las llamadas recursivas
-    private boolean[][] visited;
+    // Estado del paso a paso: la pila simula las llamadas recursivas. Como con backtracking
+    // el camino actual es justamente la cadena de llamadas activas, la propia pila ES el camino:
+    // entrar a una celda la apila y retroceder la desapila, sin copiar listas.
+    private int[] callStack;        // Celda (índice lineal) de cada "llamada" activa
+    private byte[] neighborIndex;   // Siguiente vecino por explorar en cada llamada
+    private int depth;              // Número de llamadas activas (= longitud del camino actual)
+    private boolean[] visited;
+    private PackedMaze packedMaze;
     private Cell[][] mazeGrid;
-    private Cell startCell;
-    private Cell endCell;
+    private int endIndex;
     private List<Cell> finalPath;
     private boolean finished;
 
@@ -44,9 +38,33 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
 
     /**
      * Resuelve el laberinto de forma rápida, sin animación.
+     * Se ejecuta con una pila explícita: al retroceder se desapila la celda, que es justo el
+     * backtracking, y al llegar al destino la pila contiene el camino en orden.
+     * @param maze La matriz 2D de celdas que representa el laberinto.
+     * @param start La celda de inicio.
+     * @param end La celda de destino.
+     * @return Una lista de celdas que forman el camino. Retorna una lista vacía si no hay solución.
      */
     @Override
     public List<Cell> solve(Cell[][] maze, Cell start, Cell end) {
+        PackedMaze packed = PackedMaze.fromCells(maze);
+        int[] path = solve(packed, packed.index(start), packed.index(end));
+        return PackedMaze.toCellPath(path, maze);
+    }
+
+    /**
+     * Resuelve el laberinto compacto con backtracking sobre una pila explícita.
+     */
+    @Override
+    public int[] solve(SearchContext context) {
+        return IterativeDepthFirst.search(context, dRow, dCol);
+    }
+
+    /**
+     * Versión recursiva con backtracking tal como se planteó originalmente. Útil como referencia
+     * para verificar que la versión iterativa encuentra el mismo camino.
+     */
+    public List<Cell> solveRecursive(Cell[][] maze, Cell start, Cell end) {
         List<Cell> path = new ArrayList<>();
         boolean[][] localVisited = new boolean[maze.length][maze[0].length];
         
@@ -100,35 +118,24 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
     @Override
     public void initializeStepByStep(Cell[][] maze, Cell start, Cell end) {
         this.mazeGrid = maze;
-        this.startCell = start;
-        this.endCell = end;
-        this.callStack = new Stack<>();
-        this.visited = new boolean[maze.length][maze[0].length];
+        this.packedMaze = PackedMaze.fromCells(maze);
+        this.endIndex = packedMaze.index(end);
+        this.visited = new boolean[packedMaze.size()];
+        this.callStack = new int[Math.min(packedMaze.size(), 1024)];
+        this.neighborIndex = new byte[callStack.length];
         this.finalPath = Collections.emptyList();
         this.finished = false;
 
-        // Reset parents for all cells to ensure a clean slate for new searches.
-        for (int r = 0; r < maze.length; r++) {
-            for (int c = 0; c < maze[0].length; c++) {
-                maze[r][c].setParent(null);
-            }
-        }
-
-        // Empieza la búsqueda desde la celda de inicio
-        // La celda de inicio no tiene padre
-        startCell.setParent(null);
-        List<Cell> initialPath = new ArrayList<>();
-        // No añadir start a initialPath aquí, se añade cuando se "procesa" en doStep
-        
-        // Simula la primera llamada recursiva
-        callStack.push(new RecursiveStepFrame(startCell, initialPath));
-        // Se marca como visitado al "entrar"
-        visited[startCell.getRow()][startCell.getCol()] = true;
+        // Simula la primera llamada recursiva; se marca como visitada al "entrar".
+        int startIndex = packedMaze.index(start);
+        depth = 0;
+        push(startIndex);
+        visited[startIndex] = true;
     }
 
     /**
      * Ejecuta un solo paso del algoritmo (simulando una llamada recursiva con backtracking).
-     * Este método se encarga de simular la pila de llamadas recursivas para controlar el paso a paso.
+     * Cada paso hace trabajo constante: probar como mucho 4 vecinos y apilar o desapilar una celda.
      * @return La celda visitada en este paso, o null si la búsqueda ha terminado o no hay más pasos.
      */
     @Override
@@ -137,58 +144,60 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
             return null; // La búsqueda ya terminó.
         }
 
-        if (callStack.isEmpty()) {
+        if (depth == 0) {
             finished = true; // La pila está vacía, no hay más caminos que explorar.
             return null;
         }
 
-        RecursiveStepFrame frame = callStack.peek(); // Mira el tope de la pila (simula la llamada actual)
-        Cell current = frame.current;
-        Cell cellToReturn = null; // La celda que se acaba de "visitar" en este paso
-
-        // Si es la primera vez que procesamos esta celda en un "doStep"
-        // O si volvemos a esta celda después de explorar una rama fallida (backtracking)
-        // La condición 'frame.currentPathSnapshot.isEmpty()' en la primera entrada
-        // y 'frame.currentPathSnapshot.size() < (callStack.size())' para asegurar que la celda actual
-        // esté en el path de su frame ANTES de explorar vecinos.
-        if (!frame.currentPathSnapshot.contains(current)) {
-            frame.currentPathSnapshot.add(current); // Añade la celda actual al camino de este frame.
-            cellToReturn = current; // Esta es la celda que acaba de ser "visitada"
-        }
-        
-        // Si llegamos al final, reconstruimos el camino y terminamos
-        if (current.equals(endCell)) {
-            finalPath = new ArrayList<>(frame.currentPathSnapshot); // El camino ya está construido en currentPathSnapshot
+        int top = depth - 1;
+        int current = callStack[top];
+        Cell currentCell = toCell(current);
+
+        // Si llegamos al final, la pila contiene el camino desde el inicio.
+        if (current == endIndex) {
+            finalPath = new ArrayList<>(depth);
+            for (int i = 0; i < depth; i++) {
+                finalPath.add(toCell(callStack[i]));
+            }
             finished = true;
-            return current; // Retorna la celda final
+            return currentCell; // Retorna la celda final
         }
 
         // Continúa explorando los vecinos de la celda actual
-        while (frame.neighborIndex < 4) {
-            int newRow = current.getRow() + dRow[frame.neighborIndex];
-            int newCol = current.getCol() + dCol[frame.neighborIndex];
-            frame.neighborIndex++; // Prepara para el siguiente vecino en el próximo paso
-
-            if (newRow >= 0 && newCol >= 0 && newRow < mazeGrid.length && newCol < mazeGrid[0].length) {
-                Cell neighbor = mazeGrid[newRow][newCol];
-                if (!visited[newRow][newCol] && neighbor.getState() != CellState.WALL) {
-                    visited[newRow][newCol] = true;
-                    neighbor.setParent(current); // Establece el padre para la reconstrucción
-                    callStack.push(new RecursiveStepFrame(neighbor, frame.currentPathSnapshot)); // "Llama" recursivamente al vecino con la copia del path actual
-                    return (cellToReturn != null) ? cellToReturn : current; // Retorna la celda actual que se acaba de "activar"
+        int cols = packedMaze.getCols();
+        while (neighborIndex[top] < 4) {
+            int direction = neighborIndex[top]++;
+            int newRow = current / cols + dRow[direction];
+            int newCol = current % cols + dCol[direction];
+
+            if (packedMaze.isOpen(newRow, newCol)) {
+                int neighbor = packedMaze.index(newRow, newCol);
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    push(neighbor); // "Llama" recursivamente al vecino; el camino crece en una celda.
+                    return currentCell;
                 }
             }
         }
-        
-        // Si todos los vecinos fueron explorados y ninguno llevó a la solución,
-        // significa que esta rama no lleva al final. "Retrocede" (pop de la pila).
-        callStack.pop();
-        // Si la celda actual fue añadida al path en este frame, simula el backtracking eliminándola.
-        if (frame.currentPathSnapshot.contains(current)) {
-            frame.currentPathSnapshot.remove(current); // Simula el backtracking visual
+
+        // Ningún vecino llevó a la solución: se retrocede (backtracking) quitando la celda del camino.
+        depth--;
+        return currentCell;
+    }
+
+    private void push(int cell) {
+        if (depth == callStack.length) {
+            int capacity = (int) Math.min((long) callStack.length << 1, packedMaze.size());
+            callStack = Arrays.copyOf(callStack, capacity);
+            neighborIndex = Arrays.copyOf(neighborIndex, capacity);
         }
-        
-        return (cellToReturn != null) ? cellToReturn : current; // Retorna la celda actual (después de explorar todos sus vecinos o antes de retroceder)
+        callStack[depth] = cell;
+        neighborIndex[depth] = 0;
+        depth++;
+    }
+
+    private Cell toCell(int index) {
+        return mazeGrid[packedMaze.row(index)][packedMaze.col(index)];
     }
 
     /**
@@ -206,22 +215,4 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
     public List<Cell> getFinalPath() {
         return finalPath;
     }
-
-    /**
-     * Reconstruye el camino desde la celda final hasta la inicial, siguiendo los "padres".
-     * Este método se usa en la versión "solve" rápida y cuando se encuentra el "endCell" en doStep.
-     * @param cell La celda final encontrada por el algoritmo.
-     * @return La lista de celdas que componen el camino, en orden de inicio a fin.
-     */
-    private List<Cell> reconstructPath(Cell cell) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = cell;
-        while (current != null) {
-            path.add(current);
-            current = current.getParent();
-        }
-        Collections.reverse(path);
-        return path;
-    }
-
-}
\ No newline at end of file
+}
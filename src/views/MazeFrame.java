@@ -3,6 +3,7 @@ package views;
 import javax.swing.*;
 
 import controllers.App;
+import solver.SolverRegistry;
 
 import java.awt.*;
 import java.awt.event.MouseAdapter;
@@ -16,13 +17,22 @@ import java.net.URI;
  */
 public class MazeFrame extends JFrame {
 
+    // Velocidad máxima de la animación: 10^MAX_SPEED_EXPONENT pasos por segundo.
+    private static final int MAX_SPEED_EXPONENT = 7;
+
     // --- Atributos de los Componentes de la UI ---
     private final MazePanel mazePanel;
     private final JRadioButton setStartButton, setEndButton, toggleWallButton;
     private final JComboBox<String> algorithmComboBox;
-    private final JButton solveButton, clearButton, stepButton;
+    private final JButton solveButton, clearButton, stepButton, runAllButton;
+    private final JButton playButton, pauseButton;
+    private final JButton cancelButton;
+    private final JLabel progressLabel;
+    private final JSlider speedSlider;
     private final JMenuItem verResultadosMenuItem;
     private final JMenuItem nuevoLaberintoItem;
+    private final JMenuItem abrirLaberintoItem, guardarLaberintoItem;
+    private final JMenuItem generarLaberintoItem;
 
     /**
      * Constructor de la ventana principal.
@@ -40,6 +50,9 @@ public class MazeFrame extends JFrame {
         JMenu archivoMenu = new JMenu("Archivo");
         verResultadosMenuItem = new JMenuItem("Ver Resultados");
         nuevoLaberintoItem = new JMenuItem("Nuevo Laberinto");
+        abrirLaberintoItem = new JMenuItem("Abrir Laberinto...");
+        guardarLaberintoItem = new JMenuItem("Guardar Laberinto...");
+        generarLaberintoItem = new JMenuItem("Generar Laberinto...");
         
         nuevoLaberintoItem.addActionListener(e -> {
             this.dispose();
@@ -47,6 +60,10 @@ public class MazeFrame extends JFrame {
         });
 
         archivoMenu.add(nuevoLaberintoItem);
+        archivoMenu.add(abrirLaberintoItem);
+        archivoMenu.add(guardarLaberintoItem);
+        archivoMenu.add(generarLaberintoItem);
+        archivoMenu.addSeparator();
         archivoMenu.add(verResultadosMenuItem);
         menuBar.add(archivoMenu);
 
@@ -82,22 +99,44 @@ public class MazeFrame extends JFrame {
         JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         bottomPanel.setBorder(BorderFactory.createTitledBorder("Acciones"));
         
-        algorithmComboBox = new JComboBox<>(new String[]{
-            "Recursivo", "Recursivo Completo", "Recursivo Completo BT", "BFS", "DFS", "Backtracking"
-        });
+        algorithmComboBox = new JComboBox<>(SolverRegistry.getNames().toArray(new String[0]));
         
         solveButton = new JButton("Resolver");
+        runAllButton = new JButton("Ejecutar todos");
         stepButton = new JButton("Paso a paso");
         clearButton = new JButton("Limpiar Muros");
+        cancelButton = new JButton("Cancelar");
+        cancelButton.setEnabled(false); // Solo mientras hay una búsqueda automática en curso
+        progressLabel = new JLabel(" ");
+
+        // Animación automática del paso a paso: la velocidad va de 1 a 10^7 pasos por segundo
+        // en escala logarítmica (cada marca del deslizador multiplica por 10).
+        playButton = new JButton("Animar");
+        pauseButton = new JButton("Pausar");
+        pauseButton.setEnabled(false);
+        speedSlider = new JSlider(0, MAX_SPEED_EXPONENT * 10, 20);
+        speedSlider.setMajorTickSpacing(10);
+        speedSlider.setPaintTicks(true);
+        speedSlider.setPreferredSize(new Dimension(120, speedSlider.getPreferredSize().height));
+        JLabel speedLabel = new JLabel();
+        speedSlider.addChangeListener(e -> speedLabel.setText(getStepsPerSecond() + " pasos/s"));
+        speedLabel.setText(getStepsPerSecond() + " pasos/s");
 
         bottomPanel.add(new JLabel("Algoritmo:"));
         bottomPanel.add(algorithmComboBox);
         bottomPanel.add(solveButton);
+        bottomPanel.add(runAllButton);
+        bottomPanel.add(cancelButton);
+        bottomPanel.add(progressLabel);
         bottomPanel.add(stepButton);
         bottomPanel.add(clearButton);
+        bottomPanel.add(playButton);
+        bottomPanel.add(pauseButton);
+        bottomPanel.add(speedSlider);
+        bottomPanel.add(speedLabel);
         add(bottomPanel, BorderLayout.SOUTH);
 
-        setSize(800, 600);
+        setSize(1200, 600);
         setLocationRelativeTo(null);
     }
     
@@ -151,6 +190,13 @@ public class MazeFrame extends JFrame {
         JOptionPane.showMessageDialog(this, panelPrincipal, "Acerca del Proyecto", JOptionPane.INFORMATION_MESSAGE);
     }
 
+    /**
+     * @return La velocidad de animación elegida en el deslizador, en pasos por segundo.
+     */
+    public long getStepsPerSecond() {
+        return Math.round(Math.pow(10, speedSlider.getValue() / 10.0));
+    }
+
     // --- Getters para que el Controlador pueda acceder a los componentes ---
     public MazePanel getMazePanel() { return mazePanel; }
     public JRadioButton getSetStartButton() { return setStartButton; }
@@ -158,8 +204,16 @@ public class MazeFrame extends JFrame {
     public JRadioButton getToggleWallButton() { return toggleWallButton; }
     public JComboBox<String> getAlgorithmComboBox() { return algorithmComboBox; }
     public JButton getSolveButton() { return solveButton; }
+    public JButton getRunAllButton() { return runAllButton; }
     public JButton getClearButton() { return clearButton; }
     public JButton getStepButton() { return stepButton; }
+    public JButton getPlayButton() { return playButton; }
+    public JButton getPauseButton() { return pauseButton; }
+    public JButton getCancelButton() { return cancelButton; }
+    public JLabel getProgressLabel() { return progressLabel; }
     public JMenuItem getVerResultadosMenuItem() { return verResultadosMenuItem; }
     public JMenuItem getNuevoLaberintoItem() { return nuevoLaberintoItem; }
+    public JMenuItem getAbrirLaberintoItem() { return abrirLaberintoItem; }
+    public JMenuItem getGuardarLaberintoItem() { return guardarLaberintoItem; }
+    public JMenuItem getGenerarLaberintoItem() { return generarLaberintoItem; }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package views;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import models.Cell;
 import models.CellState;
 
@@ -9,11 +11,33 @@ import models.CellState;
  * Representa el panel de dibujo donde se visualiza el laberinto.
  * Esta clase es una parte de la "Vista" en el patrón MVC. Su única responsabilidad
  * es pintar el estado actual del laberinto basándose en la matriz de celdas (mazeGrid).
+ *
+ * Tiene dos modos de dibujo, elegidos según el tamaño de celda en pantalla:
+ * <ul>
+ *   <li>Celdas: un rectángulo con borde por celda (laberintos pequeños).</li>
+ *   <li>Raster: una imagen con un píxel por celda que se actualiza en el momento en que
+ *       cambia una celda y se dibuja escalada. Si las celdas no llegan a un píxel, se dibuja
+ *       una versión reducida en la que cada píxel resume un bloque de celdas.</li>
+ * </ul>
  */
 public class MazePanel extends JPanel {
+    // Por debajo de este tamaño de celda (en píxeles) el borde tapa casi todo el relleno
+    // y dibujar rectángulos sueltos deja de compensar: se pasa al modo raster.
+    private static final int MIN_CELL_PIXELS = 4;
+
     // La matriz de celdas que representa el estado actual del laberinto.
     private Cell[][] mazeGrid;
 
+    // Imagen con un píxel por celda; rasterPixels es su arreglo interno (se escribe directamente).
+    private BufferedImage raster;
+    private int[] rasterPixels;
+
+    // Imagen reducida para celdas de menos de un píxel: cada píxel resume un bloque de
+    // lodFactor x lodFactor celdas. Se crea cuando hace falta y se actualiza por bloques.
+    private BufferedImage lodImage;
+    private int[] lodPixels;
+    private int lodFactor;
+
     /**
      * Constructor del panel del laberinto.
      */
@@ -28,10 +52,21 @@ public class MazePanel extends JPanel {
      */
     public void setMazeGrid(Cell[][] mazeGrid) {
         this.mazeGrid = mazeGrid;
+        rebuildRaster();
         revalidate(); // Notifica al layout manager que el componente podría haber cambiado de tamaño.
         repaint();    // Llama a paintComponent() para redibujar el panel con el nuevo laberinto.
     }
-    
+
+    /**
+     * Vuelve a leer todas las celdas y repinta el panel completo. Es lo que hay que llamar
+     * después de un cambio que afecta a muchas celdas a la vez (limpiar el laberinto, etc.);
+     * para cambios sueltos basta con repaintCell().
+     */
+    public void refresh() {
+        rebuildRaster();
+        repaint();
+    }
+
     /**
      * Este es el método principal de dibujado de Swing. Se llama automáticamente
      * cada vez que el panel necesita ser redibujado (por ejemplo, al llamar a repaint()).
@@ -48,14 +83,29 @@ public class MazePanel extends JPanel {
         int panelHeight = getHeight();
         int numRows = mazeGrid.length;
         int numCols = mazeGrid[0].length;
-        
+
         // El tamaño de cada celda es el espacio total dividido por el número de celdas.
         int cellWidth = panelWidth / numCols;
         int cellHeight = panelHeight / numRows;
 
-        // Se recorre la matriz celda por celda para dibujarla.
-        for (int row = 0; row < numRows; row++) {
-            for (int col = 0; col < numCols; col++) {
+        if (cellWidth < MIN_CELL_PIXELS || cellHeight < MIN_CELL_PIXELS) {
+            paintRaster(g);
+            return;
+        }
+
+        // Solo se recorren las celdas que tocan la zona a repintar (el "clip"). Tras un
+        // repaintCell() es una sola celda (y sus vecinas de borde), no toda la cuadrícula.
+        int firstRow = 0, lastRow = numRows - 1, firstCol = 0, lastCol = numCols - 1;
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            firstRow = Math.max(0, clip.y / cellHeight);
+            lastRow = Math.min(numRows - 1, (clip.y + clip.height - 1) / cellHeight);
+            firstCol = Math.max(0, clip.x / cellWidth);
+            lastCol = Math.min(numCols - 1, (clip.x + clip.width - 1) / cellWidth);
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
                 // Se obtiene el color correspondiente al estado de la celda actual.
                 g.setColor(getColorForState(mazeGrid[row][col].getState()));
                 // Se dibuja un rectángulo relleno con ese color.
@@ -67,6 +117,161 @@ public class MazePanel extends JPanel {
         }
     }
 
+    /**
+     * Dibuja la imagen raster (o su versión reducida) escalada a bloques enteros de píxeles,
+     * sin suavizado, para que cada celda o bloque quede con un color nítido.
+     */
+    private void paintRaster(Graphics g) {
+        BufferedImage image = currentImage();
+        int blockWidth = getWidth() / image.getWidth();
+        int blockHeight = getHeight() / image.getHeight();
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(image, 0, 0, image.getWidth() * blockWidth, image.getHeight() * blockHeight, null);
+    }
+
+    /**
+     * Pide repintar solo el rectángulo de una celda (más un píxel para su borde), en lugar
+     * de todo el panel. Swing junta las peticiones pendientes y paintComponent recibe ese
+     * rectángulo como zona de recorte. En modo raster, además, actualiza el píxel de la
+     * celda (y el de su bloque en la imagen reducida).
+     * @param row La fila de la celda que cambió.
+     * @param col La columna de la celda que cambió.
+     */
+    public void repaintCell(int row, int col) {
+        if (mazeGrid == null) return;
+        int numCols = mazeGrid[0].length;
+        rasterPixels[row * numCols + col] = getColorForState(mazeGrid[row][col].getState()).getRGB();
+
+        int cellWidth = getWidth() / numCols;
+        int cellHeight = getHeight() / mazeGrid.length;
+        if (getWidth() == 0 || getHeight() == 0 || (cellWidth >= MIN_CELL_PIXELS && cellHeight >= MIN_CELL_PIXELS)) {
+            lodImage = null; // La imagen reducida no se está usando: se descarta en vez de mantenerla
+            lodPixels = null;
+            repaint(col * cellWidth, row * cellHeight, cellWidth + 1, cellHeight + 1);
+            return;
+        }
+
+        BufferedImage image = currentImage();
+        int factor = image == raster ? 1 : lodFactor;
+        if (factor > 1) {
+            lodPixels[(row / factor) * lodImage.getWidth() + col / factor] = blockColor(row / factor, col / factor);
+        } else {
+            lodImage = null;
+            lodPixels = null;
+        }
+        int blockWidth = getWidth() / image.getWidth();
+        int blockHeight = getHeight() / image.getHeight();
+        repaint((col / factor) * blockWidth, (row / factor) * blockHeight, blockWidth, blockHeight);
+    }
+
+    /**
+     * Repinta solo las celdas indicadas (por ejemplo, el camino de una solución).
+     * @param cells Las celdas que cambiaron de estado.
+     */
+    public void repaintCells(Iterable<Cell> cells) {
+        for (Cell cell : cells) {
+            repaintCell(cell.getRow(), cell.getCol());
+        }
+    }
+
+    // --- Imágenes del modo raster ---
+
+    private void rebuildRaster() {
+        lodImage = null; // Se recalcula la próxima vez que haga falta
+        lodPixels = null;
+        if (mazeGrid == null) {
+            raster = null;
+            rasterPixels = null;
+            return;
+        }
+        int numRows = mazeGrid.length;
+        int numCols = mazeGrid[0].length;
+        if (raster == null || raster.getWidth() != numCols || raster.getHeight() != numRows) {
+            raster = new BufferedImage(numCols, numRows, BufferedImage.TYPE_INT_RGB);
+            rasterPixels = ((DataBufferInt) raster.getRaster().getDataBuffer()).getData();
+        }
+        for (int row = 0; row < numRows; row++) {
+            Cell[] cells = mazeGrid[row];
+            int base = row * numCols;
+            for (int col = 0; col < numCols; col++) {
+                rasterPixels[base + col] = getColorForState(cells[col].getState()).getRGB();
+            }
+        }
+    }
+
+    /**
+     * Devuelve la imagen que corresponde al tamaño actual del panel: la de un píxel por celda
+     * si cada celda ocupa al menos un píxel, o la reducida con el menor factor (potencia de 2)
+     * que hace que quepa.
+     */
+    private BufferedImage currentImage() {
+        int factor = 1;
+        int width = Math.max(1, getWidth());
+        int height = Math.max(1, getHeight());
+        while (ceilDiv(raster.getWidth(), factor) > width || ceilDiv(raster.getHeight(), factor) > height) {
+            factor <<= 1;
+        }
+        if (factor == 1) {
+            return raster;
+        }
+        if (lodImage == null || lodFactor != factor) {
+            buildLod(factor);
+        }
+        return lodImage;
+    }
+
+    private void buildLod(int factor) {
+        int lodCols = ceilDiv(raster.getWidth(), factor);
+        int lodRows = ceilDiv(raster.getHeight(), factor);
+        lodImage = new BufferedImage(lodCols, lodRows, BufferedImage.TYPE_INT_RGB);
+        lodPixels = ((DataBufferInt) lodImage.getRaster().getDataBuffer()).getData();
+        lodFactor = factor;
+        for (int blockRow = 0; blockRow < lodRows; blockRow++) {
+            for (int blockCol = 0; blockCol < lodCols; blockCol++) {
+                lodPixels[blockRow * lodCols + blockCol] = blockColor(blockRow, blockCol);
+            }
+        }
+    }
+
+    /**
+     * Color que resume un bloque de celdas de la imagen reducida. Un promedio haría
+     * desaparecer el inicio, el fin o el camino (ocupan pocas celdas), así que estos ganan
+     * siempre: inicio, fin, solución y visitadas, en ese orden. Si no hay ninguno, el bloque
+     * toma el color que más se repite entre muros y pasillos.
+     */
+    private int blockColor(int blockRow, int blockCol) {
+        int numCols = raster.getWidth();
+        int rowEnd = Math.min(raster.getHeight(), (blockRow + 1) * lodFactor);
+        int colEnd = Math.min(numCols, (blockCol + 1) * lodFactor);
+        int start = Color.GREEN.getRGB(), end = Color.RED.getRGB();
+        int solution = Color.BLUE.getRGB(), visited = Color.LIGHT_GRAY.getRGB();
+        int wall = Color.DARK_GRAY.getRGB();
+        int best = 0; // 4 = inicio ... 1 = visitada, 0 = ninguna destacada
+        int walls = 0, cells = 0;
+        for (int row = blockRow * lodFactor; row < rowEnd; row++) {
+            int base = row * numCols;
+            for (int col = blockCol * lodFactor; col < colEnd; col++) {
+                int rgb = rasterPixels[base + col];
+                int rank = rgb == start ? 4 : rgb == end ? 3 : rgb == solution ? 2 : rgb == visited ? 1 : 0;
+                best = Math.max(best, rank);
+                if (rgb == wall) walls++;
+                cells++;
+            }
+        }
+        switch (best) {
+            case 4: return start;
+            case 3: return end;
+            case 2: return solution;
+            case 1: return visited;
+            default: return 2 * walls > cells ? wall : Color.WHITE.getRGB();
+        }
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
     /**
      * Devuelve un color específico basado en el estado de una celda.
      * @param state El estado de la celda (START, END, WALL, etc.).
@@ -83,4 +288,4 @@ public class MazePanel extends JPanel {
             default: return Color.BLACK;        // Color por defecto en caso de un estado desconocido.
         }
     }
-}
\ No newline at end of file
+}
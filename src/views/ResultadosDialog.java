@@ -13,19 +13,31 @@ import java.awt.*;
 import java.text.DecimalFormat;
 import java.util.List;
 import models.AlgorithmResult;
+import models.SearchStats;
+import solver.SolverRegistry;
 
 /**
  * Representa la ventana de diálogo (JDialog) que muestra los resultados de los algoritmos.
  * Esta clase es parte de la "Vista" en el patrón MVC. Se encarga de mostrar los datos
  * en una tabla y de generar un gráfico de líneas comparativo.
+ * Los resultados se muestran por páginas: el controlador solo carga la página visible.
  */
 public class ResultadosDialog extends JDialog {
 
+    /** Número de filas por página de la tabla. */
+    public static final int PAGE_SIZE = 500;
+    /** Opción del filtro que muestra todos los algoritmos. */
+    public static final String ALL_ALGORITHMS = "Todos";
+
     // --- Atributos de los Componentes de la UI ---
     private final JTable resultsTable;
     private final DefaultTableModel tableModel;
     public final JButton clearButton; // Público para que el Controller añada su listener
     public final JButton graphButton; // Público para que el Controller añada su listener
+    public final JButton previousPageButton; // Público para que el Controller añada su listener
+    public final JButton nextPageButton;     // Público para que el Controller añada su listener
+    public final JComboBox<String> algorithmFilter; // Público para que el Controller añada su listener
+    private final JLabel pageLabel;
     private List<AlgorithmResult> currentResults; // Almacena los últimos resultados recibidos
 
     /**
@@ -36,27 +48,45 @@ public class ResultadosDialog extends JDialog {
         super(owner, "Resultados Guardados", true); // 'true' para que sea modal
 
         // --- Configuración de la Tabla ---
-        String[] columnNames = {"Algoritmo", "Tiempo (ns)", "Celdas Camino"};
+        String[] columnNames = {"Algoritmo", "Tiempo (ns)", "Celdas Camino",
+                "Expandidas", "Encoladas", "Frontera Máx.", "Profundidad Máx.", "Bytes Asignados"};
         tableModel = new DefaultTableModel(columnNames, 0);
         resultsTable = new JTable(tableModel);
         JScrollPane scrollPane = new JScrollPane(resultsTable);
 
+        // --- Configuración del Filtro ---
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        algorithmFilter = new JComboBox<>();
+        algorithmFilter.addItem(ALL_ALGORITHMS);
+        for (String name : SolverRegistry.getNames()) {
+            algorithmFilter.addItem(name);
+        }
+        filterPanel.add(new JLabel("Algoritmo:"));
+        filterPanel.add(algorithmFilter);
+
         // --- Configuración del Panel de Botones ---
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        previousPageButton = new JButton("< Anterior");
+        pageLabel = new JLabel();
+        nextPageButton = new JButton("Siguiente >");
         clearButton = new JButton("Limpiar Resultados");
         graphButton = new JButton("Graficar Resultados");
+        buttonPanel.add(previousPageButton);
+        buttonPanel.add(pageLabel);
+        buttonPanel.add(nextPageButton);
         buttonPanel.add(clearButton);
         buttonPanel.add(graphButton);
 
         // --- Ensamblaje de la Ventana ---
         setLayout(new BorderLayout());
+        add(filterPanel, BorderLayout.NORTH);
         add(scrollPane, BorderLayout.CENTER);
         add(buttonPanel, BorderLayout.SOUTH);
 
         // Se asigna la acción al botón de graficar
         graphButton.addActionListener(e -> displayChart());
 
-        setSize(600, 400);
+        setSize(950, 450);
         setLocationRelativeTo(owner);
     }
 
@@ -71,15 +101,51 @@ public class ResultadosDialog extends JDialog {
 
         // Itera sobre la lista de resultados y añade cada uno como una nueva fila en la tabla.
         for (AlgorithmResult result : results) {
+            SearchStats stats = result.getStats(); // null si la búsqueda no se midió (p. ej. paso a paso)
             Object[] row = new Object[]{
                 result.getAlgorithmName(),
                 result.getExecutionTime(), // Muestra el tiempo en nanosegundos
-                result.getPathLength()
+                result.getPathLength(),
+                statValue(stats == null ? -1 : stats.getNodesExpanded()),
+                statValue(stats == null ? -1 : stats.getNodesEnqueued()),
+                statValue(stats == null ? -1 : stats.getPeakFrontier()),
+                statValue(stats == null ? -1 : stats.getMaxDepth()),
+                statValue(stats == null ? -1 : stats.getBytesAllocated())
             };
             tableModel.addRow(row);
         }
     }
 
+    // Los contadores desconocidos (-1) se muestran como "-".
+    private static Object statValue(long value) {
+        return value < 0 ? "-" : value;
+    }
+
+    /**
+     * Muestra una página de resultados y actualiza los controles de paginación.
+     * @param results Los resultados de la página.
+     * @param offset La posición de la primera fila de la página dentro de todos los resultados.
+     * @param total El número total de resultados (con el filtro actual).
+     */
+    public void setPage(List<AlgorithmResult> results, long offset, long total) {
+        setResults(results);
+        if (total == 0) {
+            pageLabel.setText("Sin resultados");
+        } else {
+            pageLabel.setText("Filas " + (offset + 1) + "-" + (offset + results.size()) + " de " + total);
+        }
+        previousPageButton.setEnabled(offset > 0);
+        nextPageButton.setEnabled(offset + results.size() < total);
+    }
+
+    /**
+     * @return El algoritmo elegido en el filtro, o null si se muestran todos.
+     */
+    public String getSelectedAlgorithm() {
+        String selected = (String) algorithmFilter.getSelectedItem();
+        return ALL_ALGORITHMS.equals(selected) ? null : selected;
+    }
+
     /**
      * Crea y muestra el gráfico de líneas en una nueva ventana.
      * Utiliza la librería JFreeChart para la visualización.
@@ -0,0 +1,43 @@
+package solver.solverImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import generator.generatorImpl.KruskalGenerator;
+import models.PackedMaze;
+import org.junit.Test;
+import solver.SearchContext;
+import solver.SolveOptions;
+import solver.SolveResult;
+import solver.SolverRegistry;
+
+/**
+ * Comprueba que el presupuesto de celdas significa lo mismo en todos los solucionadores:
+ * con maxExpanded igual a las expansiones que necesita la búsqueda, termina igual que sin
+ * límite; con una menos, se agota el presupuesto.
+ */
+public class NodeBudgetTest {
+
+    @Test
+    public void budgetAllowsExactlyTheExpansionsNeeded() {
+        PackedMaze maze = new KruskalGenerator().generate(41, 41, 5);
+        for (String name : SolverRegistry.getAlgorithmNames()) {
+            SolveResult unlimited = solve(name, maze, SolveOptions.unlimited());
+            long needed = unlimited.getNodesExpanded();
+            assertTrue(name + " necesita más de una expansión", needed > 1);
+
+            SolveResult exact = solve(name, maze, SolveOptions.unlimited().maxExpanded(needed));
+            assertEquals(name + " con maxExpanded(" + needed + ")", unlimited.getStatus(), exact.getStatus());
+            assertEquals(name + " con maxExpanded(" + needed + ")", needed, exact.getNodesExpanded());
+
+            SolveResult short1 = solve(name, maze, SolveOptions.unlimited().maxExpanded(needed - 1));
+            assertEquals(name + " con maxExpanded(" + (needed - 1) + ")",
+                    SolveResult.Status.NODE_BUDGET_EXCEEDED, short1.getStatus());
+        }
+    }
+
+    private static SolveResult solve(String name, PackedMaze maze, SolveOptions options) {
+        SearchContext context = new SearchContext(maze, maze.getStart(), maze.getEnd());
+        return SolverRegistry.create(name).solve(context, options);
+    }
+}
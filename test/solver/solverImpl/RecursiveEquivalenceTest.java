@@ -0,0 +1,98 @@
+package solver.solverImpl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import models.Cell;
+import models.PackedMaze;
+import org.junit.Test;
+
+/**
+ * Comprueba que la versión iterativa de cada solucionador en profundidad devuelve exactamente
+ * el mismo camino que su versión recursiva original (solveRecursive) en cuadrículas pequeñas
+ * generadas al azar, con semilla fija para que cualquier fallo sea reproducible.
+ */
+public class RecursiveEquivalenceTest {
+
+    private static final int GRIDS = 500;
+    private static final int MAX_SIDE = 14;
+
+    /** Los cuatro solucionadores comparten esta firma de referencia. */
+    private interface Recursive {
+        List<Cell> solve(Cell[][] maze, Cell start, Cell end);
+    }
+
+    @Test
+    public void dfsMatchesRecursiveVersion() {
+        MazeSolverDFS solver = new MazeSolverDFS();
+        assertSamePaths("DFS", 1L, solver::solve, solver::solveRecursive);
+    }
+
+    @Test
+    public void recursivoMatchesRecursiveVersion() {
+        MazeSolverRecursivo solver = new MazeSolverRecursivo();
+        assertSamePaths("Recursivo", 2L, solver::solve, solver::solveRecursive);
+    }
+
+    @Test
+    public void recursivoCompletoMatchesRecursiveVersion() {
+        MazeSolverRecursivoCompleto solver = new MazeSolverRecursivoCompleto();
+        assertSamePaths("Recursivo Completo", 3L, solver::solve, solver::solveRecursive);
+    }
+
+    @Test
+    public void recursivoCompletoBTMatchesRecursiveVersion() {
+        MazeSolverRecursivoCompletoBT solver = new MazeSolverRecursivoCompletoBT();
+        assertSamePaths("Recursivo Completo BT", 4L, solver::solve, solver::solveRecursive);
+    }
+
+    private static void assertSamePaths(String name, long seed, Recursive iterative, Recursive recursive) {
+        Random random = new Random(seed);
+        for (int i = 0; i < GRIDS; i++) {
+            PackedMaze maze = randomMaze(random);
+            // Cada versión recibe su propia matriz, por si alguna marca celdas al recorrer.
+            String expected = coordinates(solveOn(maze, recursive));
+            String actual = coordinates(solveOn(maze, iterative));
+            assertEquals(name + ", cuadrícula " + i + " (" + maze.getRows() + "x" + maze.getCols() + ")",
+                    expected, actual);
+        }
+    }
+
+    private static List<Cell> solveOn(PackedMaze maze, Recursive solver) {
+        Cell[][] grid = maze.toCells();
+        Cell start = grid[maze.row(maze.getStart())][maze.col(maze.getStart())];
+        Cell end = grid[maze.row(maze.getEnd())][maze.col(maze.getEnd())];
+        return solver.solve(grid, start, end);
+    }
+
+    /**
+     * Cuadrícula de 1 a MAX_SIDE por lado con una densidad de muros al azar; el inicio y el
+     * destino son dos celdas cualesquiera (pueden coincidir) y nunca son muro.
+     */
+    private static PackedMaze randomMaze(Random random) {
+        int rows = 1 + random.nextInt(MAX_SIDE);
+        int cols = 1 + random.nextInt(MAX_SIDE);
+        PackedMaze maze = new PackedMaze(rows, cols);
+        double density = random.nextDouble() * 0.5;
+        for (int cell = 0; cell < maze.size(); cell++) {
+            maze.setWall(cell, random.nextDouble() < density);
+        }
+        int start = random.nextInt(maze.size());
+        int end = random.nextInt(maze.size());
+        maze.setWall(start, false);
+        maze.setWall(end, false);
+        maze.setStart(start);
+        maze.setEnd(end);
+        return maze;
+    }
+
+    private static String coordinates(List<Cell> path) {
+        List<String> cells = new ArrayList<>(path.size());
+        for (Cell cell : path) {
+            cells.add(cell.getRow() + "," + cell.getCol());
+        }
+        return cells.toString();
+    }
+}